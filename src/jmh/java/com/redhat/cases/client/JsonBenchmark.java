@@ -0,0 +1,64 @@
+package com.redhat.cases.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.redhat.cases.dto.CaseListResponseDto;
+import com.redhat.cases.service.CaseFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case listing deserialization: the generic ObjectMapper call the clients used to make against the
+ * readers prebuilt by {@link ApiJson}, with reflection and with Blackbird accessors (JVM mode).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int cases;
+
+    private byte[] json;
+    private ObjectMapper mapper;
+    private ApiJson reflection;
+    private ApiJson blackbird;
+
+    @Setup
+    public void setup() {
+        json = CaseFixtures.caseListJson(cases);
+        mapper = CaseFixtures.mapper();
+        reflection = new ApiJson(CaseFixtures.mapper());
+        blackbird = CaseFixtures.JSON;
+    }
+
+    @Benchmark
+    public CaseListResponseDto objectMapper() throws IOException {
+        return mapper.readValue(json, CaseListResponseDto.class);
+    }
+
+    @Benchmark
+    public CaseListResponseDto prebuiltReader() throws IOException {
+        return reflection.caseList.readValue(json);
+    }
+
+    @Benchmark
+    public CaseListResponseDto prebuiltReaderBlackbird() throws IOException {
+        return blackbird.caseList.readValue(json);
+    }
+}
@@ -0,0 +1,63 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.dto.CaseDetailDto;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.CaseFixtures;
+import com.redhat.cases.service.SupportCaseService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getCase hot path for a case with a long comment history.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CaseDetailBenchmark {
+
+    // Default redhat.api.responses.max-chars
+    private static final int MAX_CHARS = 20000;
+
+    private byte[] json;
+    private CaseDetailDto dto;
+    private SupportCase supportCase;
+    private SupportCaseService service;
+
+    @Setup
+    public void setup() {
+        json = CaseFixtures.caseDetailJson();
+        dto = CaseFixtures.caseDetail();
+        supportCase = CaseFixtures.detailedCase();
+        service = CaseFixtures.mappingService();
+    }
+
+    @Benchmark
+    public CaseDetailDto deserialize() throws IOException {
+        return CaseFixtures.MAPPER.readValue(json, CaseDetailDto.class);
+    }
+
+    @Benchmark
+    public SupportCase map() {
+        return CaseFixtures.map(service, dto);
+    }
+
+    @Benchmark
+    public String render() {
+        return SupportCaseTools.casePage(supportCase, 0, "", MAX_CHARS);
+    }
+}
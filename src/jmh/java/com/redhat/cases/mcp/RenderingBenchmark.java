@@ -0,0 +1,76 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.CaseFixtures;
+
+import io.quarkiverse.mcp.server.ToolResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * searchCases and getStatistics response rendering, without the response size budget
+ * so the whole listing is rendered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RenderingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    int cases;
+
+    private List<SupportCase> results;
+    private Map<String, Object> statistics;
+    private StructuredResults structured;
+
+    @Setup
+    public void setup() {
+        results = CaseFixtures.cases(cases);
+        statistics = CaseFixtures.statistics(results);
+        structured = new StructuredResults();
+        structured.mapper = CaseFixtures.MAPPER;
+        structured.init();
+    }
+
+    @Benchmark
+    public String searchText() {
+        StringBuilder sb = new StringBuilder();
+        ResponsePages.appendPage(sb, results, 0, Integer.MAX_VALUE, SupportCase::toString);
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String searchCompact() {
+        StringBuilder sb = new StringBuilder(
+            CompactCaseTable.capacity(results.size(), CompactCaseTable.DEFAULT_FIELDS, Integer.MAX_VALUE - 256));
+        CompactCaseTable.render(sb, results, 0, CompactCaseTable.DEFAULT_FIELDS, Integer.MAX_VALUE);
+        return sb.toString();
+    }
+
+    @Benchmark
+    public ToolResponse searchJson() {
+        return structured.success(new StructuredResults.CaseList(null, results.size(), 0, null, results), null);
+    }
+
+    @Benchmark
+    public String statisticsText() {
+        return SupportCaseTools.statisticsText("", statistics);
+    }
+}
@@ -0,0 +1,160 @@
+package com.redhat.cases.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.redhat.cases.client.ApiJson;
+import com.redhat.cases.client.BlackbirdCustomizer;
+import com.redhat.cases.dto.CaseDetailDto;
+import com.redhat.cases.dto.CaseListResponseDto;
+import com.redhat.cases.model.SupportCase;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark fixtures built from responses recorded from the Red Hat Cases API (anonymized).
+ *
+ * fixtures/case-list.json holds a recorded listing; larger listings repeat its cases with
+ * distinct case numbers and dates, so payloads keep the shape and string sizes of real ones.
+ * fixtures/case-detail.json holds a single case with its comment history.
+ */
+public final class CaseFixtures {
+
+    /** The ObjectMapper the clients get from Quarkus, customizers included. */
+    public static final ObjectMapper MAPPER = mapper(new BlackbirdCustomizer());
+
+    /** The readers and writers the clients use, built from {@link #MAPPER}. */
+    public static final ApiJson JSON = new ApiJson(MAPPER);
+
+    private static final String CASE_LIST = "/fixtures/case-list.json";
+    private static final String CASE_DETAIL = "/fixtures/case-detail.json";
+
+    private CaseFixtures() {
+    }
+
+    /**
+     * An ObjectMapper with the Quarkus defaults, customized as Quarkus does at startup.
+     */
+    public static ObjectMapper mapper(ObjectMapperCustomizer... customizers) {
+        ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        for (ObjectMapperCustomizer customizer : customizers) {
+            customizer.customize(mapper);
+        }
+        return mapper;
+    }
+
+    /**
+     * A case listing response with {@code count} cases, as the API returns it.
+     */
+    public static byte[] caseListJson(int count) {
+        JsonNode recorded = read(CASE_LIST);
+        ArrayNode recordedCases = (ArrayNode) recorded.get("cases");
+        ObjectNode listing = MAPPER.createObjectNode();
+        listing.put("totalCount", count);
+        ArrayNode cases = listing.putArray("cases");
+        for (int i = 0; i < count; i++) {
+            ObjectNode c = recordedCases.get(i % recordedCases.size()).deepCopy();
+            c.put("caseNumber", String.format("%08d", 3_800_000 + i));
+            shift(c, "createdDate", i);
+            shift(c, "lastModifiedDate", i);
+            cases.add(c);
+        }
+        return write(listing);
+    }
+
+    public static byte[] caseDetailJson() {
+        return write(read(CASE_DETAIL));
+    }
+
+    public static CaseListResponseDto caseList(int count) {
+        try {
+            return MAPPER.readValue(caseListJson(count), CaseListResponseDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static CaseDetailDto caseDetail() {
+        try {
+            return MAPPER.readValue(caseDetailJson(), CaseDetailDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A service that can only map and aggregate: it has no API clients, cache or configuration.
+     */
+    public static SupportCaseService mappingService() {
+        return new SupportCaseService(null, null, null, null, OpenTelemetry.noop().getTracer("benchmarks"));
+    }
+
+    /**
+     * Maps a DTO as the service does for every case it fetches.
+     */
+    public static SupportCase map(SupportCaseService service, CaseDetailDto dto) {
+        return service.mapToSupportCase(dto);
+    }
+
+    public static List<SupportCase> cases(int count) {
+        SupportCaseService service = mappingService();
+        List<SupportCase> cases = new ArrayList<>(count);
+        for (CaseDetailDto dto : caseList(count).getCases()) {
+            cases.add(service.mapToSupportCase(dto));
+        }
+        return cases;
+    }
+
+    public static SupportCase detailedCase() {
+        return mappingService().mapToSupportCase(caseDetail());
+    }
+
+    public static Map<String, Object> statistics(List<SupportCase> cases) {
+        return mappingService().computeStatistics(cases);
+    }
+
+    private static void shift(ObjectNode c, String field, int minutes) {
+        JsonNode value = c.get(field);
+        if (value != null && value.isTextual()) {
+            c.put(field, Instant.parse(value.asText()).minus(Duration.ofMinutes(minutes)).toString());
+        }
+    }
+
+    private static JsonNode read(String resource) {
+        try (InputStream in = CaseFixtures.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + resource);
+            }
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] write(JsonNode node) {
+        try {
+            return MAPPER.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.redhat.cases.service;
+
+import com.redhat.cases.dto.ApiValues;
+import com.redhat.cases.dto.CaseDetailDto;
+import com.redhat.cases.dto.CaseListResponseDto;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.CaseStatus;
+import com.redhat.cases.model.SupportCase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Case listing hot path: JSON deserialization, DTO-to-domain mapping and statistics aggregation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CaseListBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    int cases;
+
+    private byte[] json;
+    private List<CaseDetailDto> dtos;
+    private List<SupportCase> mapped;
+    private SupportCaseService service;
+    private String[] rawStatuses;
+    private String[] rawSeverities;
+
+    @Setup
+    public void setup() {
+        json = CaseFixtures.caseListJson(cases);
+        dtos = CaseFixtures.caseList(cases).getCases();
+        mapped = CaseFixtures.cases(cases);
+        service = CaseFixtures.mappingService();
+        rawStatuses = dtos.stream().map(dto -> ApiValues.apiStatus(dto.getStatus())).toArray(String[]::new);
+        rawSeverities = dtos.stream().map(dto -> ApiValues.apiSeverity(dto.getSeverity())).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public CaseListResponseDto deserialize() throws IOException {
+        return CaseFixtures.MAPPER.readValue(json, CaseListResponseDto.class);
+    }
+
+    @Benchmark
+    public List<SupportCase> mapToSupportCase() {
+        List<SupportCase> result = new ArrayList<>(dtos.size());
+        for (CaseDetailDto dto : dtos) {
+            result.add(service.mapToSupportCase(dto));
+        }
+        return result;
+    }
+
+    // The table lookups Jackson runs per case while deserializing (on the parser's buffer)
+    @Benchmark
+    public void mapStatusAndSeverity(Blackhole bh) {
+        for (int i = 0; i < rawStatuses.length; i++) {
+            bh.consume(ApiValues.STATUSES.get(rawStatuses[i], CaseStatus.IN_PROGRESS));
+            bh.consume(ApiValues.SEVERITIES.get(rawSeverities[i], CasePriority.NORMAL));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> computeStatistics() {
+        return service.computeStatistics(mapped);
+    }
+}
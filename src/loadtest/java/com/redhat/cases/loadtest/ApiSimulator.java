@@ -0,0 +1,465 @@
+package com.redhat.cases.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.redhat.cases.dto.AddCommentRequestDto;
+import com.redhat.cases.dto.CaseFilterRequestDto;
+import com.redhat.cases.dto.CreateCaseRequestDto;
+import com.redhat.cases.dto.UpdateCaseRequestDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static com.redhat.cases.client.RedHatApiConstants.BEARER_PREFIX;
+import static com.redhat.cases.client.RedHatApiConstants.PARAM_START_DATE;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_CASES;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_CASES_FILTER;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_CASE_BY_NUMBER;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_CASE_COMMENTS;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_CURRENT_ACCOUNT;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_ENTITLEMENTS;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_PRODUCTS;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_PRODUCT_VERSIONS;
+
+/**
+ * Local stand-in for the Red Hat SSO, Cases and Hydra APIs, for load and latency testing.
+ *
+ * Serves the routes the clients call (paths from RedHatApiConstants) over a synthetic dataset,
+ * with configurable latency per route, random 5xx errors and 429 throttling, so the server's
+ * retries, rate limiting, circuit breaker and caches can be exercised without touching the real API.
+ *
+ * Run with: mvn -Ploadtest compile exec:java -Dexec.args="--cases 5000 --latency lognormal:80,400"
+ */
+public final class ApiSimulator implements AutoCloseable {
+
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .build();
+
+    static final String SSO_PREFIX = "/auth/realms/redhat-external/protocol/openid-connect/token";
+    static final String CASES_PREFIX = "/support";
+    static final String HYDRA_PREFIX = "/hydra/rest";
+    static final String STATS_PATH = "/__stats";
+
+    private static final String JSON = "application/json";
+
+    static {
+        // Without TCP_NODELAY, headers and body go out in separate segments and delayed ACKs
+        // add ~40 ms to every response on a kept-alive connection. Read once, when the server starts.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    /**
+     * Simulator settings; every field has a usable default.
+     */
+    public static final class Options {
+        int port = 8089;
+        int cases = 1000;
+        int comments = 8;
+        long seed = 42;
+        LatencyDistribution latency = LatencyDistribution.NONE;
+        final Map<String, LatencyDistribution> routeLatency = new HashMap<>();
+        double errorRate;
+        double throttleRate;
+        int retryAfterSeconds = 1;
+        int maxRps;
+        int gzipMinBytes = 1024;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--port" -> options.port = Integer.parseInt(value);
+                    case "--cases" -> options.cases = Integer.parseInt(value);
+                    case "--comments" -> options.comments = Integer.parseInt(value);
+                    case "--seed" -> options.seed = Long.parseLong(value);
+                    case "--latency" -> options.latency(value);
+                    case "--error-rate" -> options.errorRate = rate(name, value);
+                    case "--throttle-rate" -> options.throttleRate = rate(name, value);
+                    case "--retry-after" -> options.retryAfterSeconds = Integer.parseInt(value);
+                    case "--max-rps" -> options.maxRps = Integer.parseInt(value);
+                    case "--gzip-min-bytes" -> options.gzipMinBytes = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + name);
+                }
+            }
+            return options;
+        }
+
+        /**
+         * Sets the default latency ("SPEC") or the latency of one route ("route=SPEC").
+         */
+        public Options latency(String value) {
+            int eq = value.indexOf('=');
+            if (eq < 0) {
+                latency = LatencyDistribution.parse(value);
+            } else {
+                String route = value.substring(0, eq);
+                if (ROUTES.stream().noneMatch(r -> r.name.equals(route))) {
+                    throw new IllegalArgumentException("Unknown route '" + route + "'. Routes: " +
+                        ROUTES.stream().map(r -> r.name).toList());
+                }
+                routeLatency.put(route, LatencyDistribution.parse(value.substring(eq + 1)));
+            }
+            return this;
+        }
+
+        public Options port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Options cases(int cases) {
+            this.cases = cases;
+            return this;
+        }
+
+        public Options errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Options throttleRate(double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        private static double rate(String name, String value) {
+            double rate = Double.parseDouble(value);
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+
+    private record Route(String name, String method, Pattern path, Handler handler) {
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(SyntheticDataset data, String param, Map<String, String> query, byte[] body) throws IOException;
+    }
+
+    private record Response(int status, Object body) {
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        static Response notFound(String what) {
+            return new Response(404, Map.of("message", what + " not found"));
+        }
+    }
+
+    private static final List<Route> ROUTES = List.of(
+        route("token", "POST", SSO_PREFIX, (data, param, query, body) ->
+            Response.ok(Map.of("access_token", "simulated-" + System.nanoTime(), "token_type", "Bearer",
+                "expires_in", 900))),
+        route("filter", "POST", CASES_PREFIX + PATH_CASES_FILTER, (data, param, query, body) ->
+            Response.ok(data.filter(MAPPER.readValue(body, CaseFilterRequestDto.class)))),
+        route("create", "POST", CASES_PREFIX + PATH_CASES, (data, param, query, body) -> {
+            String caseNumber = data.create(MAPPER.readValue(body, CreateCaseRequestDto.class));
+            return new Response(201, Map.of("location", List.of(CASES_PREFIX + PATH_CASES + "/" + caseNumber)));
+        }),
+        route("comments", "GET", CASES_PREFIX + PATH_CASE_COMMENTS, (data, param, query, body) -> {
+            String startDate = query.get(PARAM_START_DATE);
+            return data.comments(param, startDate != null ? Instant.parse(startDate) : null)
+                .<Response>map(Response::ok).orElseGet(() -> Response.notFound("Case"));
+        }),
+        route("comment", "POST", CASES_PREFIX + PATH_CASE_COMMENTS, (data, param, query, body) ->
+            data.addComment(param, MAPPER.readValue(body, AddCommentRequestDto.class))
+                .map(c -> new Response(201, c)).orElseGet(() -> Response.notFound("Case"))),
+        route("case", "GET", CASES_PREFIX + PATH_CASE_BY_NUMBER, (data, param, query, body) ->
+            data.detail(param).<Response>map(Response::ok).orElseGet(() -> Response.notFound("Case"))),
+        route("update", "PUT", CASES_PREFIX + PATH_CASE_BY_NUMBER, (data, param, query, body) ->
+            data.update(param, MAPPER.readValue(body, UpdateCaseRequestDto.class))
+                .map(c -> new Response(204, null)).orElseGet(() -> Response.notFound("Case"))),
+        route("account", "GET", CASES_PREFIX + PATH_CURRENT_ACCOUNT, (data, param, query, body) ->
+            Response.ok(data.account())),
+        route("entitlements", "GET", CASES_PREFIX + PATH_ENTITLEMENTS, (data, param, query, body) ->
+            Response.ok(data.entitlements())),
+        route("products", "GET", HYDRA_PREFIX + PATH_PRODUCTS, (data, param, query, body) ->
+            Response.ok(data.products())),
+        route("versions", "GET", HYDRA_PREFIX + PATH_PRODUCT_VERSIONS, (data, param, query, body) ->
+            data.versions(param).<Response>map(Response::ok).orElseGet(() -> Response.notFound("Product")))
+    );
+
+    private final Options options;
+    private final SyntheticDataset data;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicLong windowCount = new AtomicLong();
+
+    private ApiSimulator(Options options) throws IOException {
+        this.options = options;
+        this.data = new SyntheticDataset(options.cases, options.comments, options.seed);
+        for (Route route : ROUTES) {
+            stats.put(route.name, new RouteStats());
+        }
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", options.port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+    }
+
+    /**
+     * Starts a simulator in this JVM (port 0 picks a free port).
+     */
+    public static ApiSimulator start(Options options) throws IOException {
+        ApiSimulator simulator = new ApiSimulator(options);
+        simulator.server.start();
+        return simulator;
+    }
+
+    public static Options options() {
+        return new Options();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Configuration properties that point the MCP server at this simulator.
+     */
+    public Map<String, String> configProperties() {
+        String base = "http://127.0.0.1:" + port();
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("redhat.api.sso.token-url", base + SSO_PREFIX);
+        properties.put("redhat.api.cases.base-url", base + CASES_PREFIX);
+        properties.put("redhat.api.hydra.base-url", base + HYDRA_PREFIX);
+        properties.put("redhat.api.offline-token", "simulated");
+        return properties;
+    }
+
+    /**
+     * Requests served per route and outcome, as exposed on /__stats.
+     */
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> snapshot = new LinkedHashMap<>();
+        for (Route route : ROUTES) {
+            snapshot.put(route.name, stats.get(route.name).snapshot());
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Options: --port N --cases N --comments N --seed N --latency [route=]SPEC" +
+                " --error-rate R --throttle-rate R --retry-after S --max-rps N --gzip-min-bytes N");
+            System.exit(2);
+            return;
+        }
+        ApiSimulator simulator = start(options);
+        System.out.printf("Red Hat API simulator on port %d: %d cases, latency %s%s, error rate %.3f, throttle rate %.3f%s%n",
+            simulator.port(), simulator.data.size(), options.latency, options.routeLatency.isEmpty() ? "" : " " + options.routeLatency,
+            options.errorRate, options.throttleRate, options.maxRps > 0 ? ", max " + options.maxRps + " req/s" : "");
+        System.out.println("Point the MCP server at it with:");
+        simulator.configProperties().forEach((key, value) -> System.out.println("  -D" + key + "=" + value));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            simulator.close();
+            System.out.println("Requests served:");
+            simulator.stats().forEach((route, counts) -> System.out.println("  " + route + " " + counts));
+        }));
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            String path = exchange.getRequestURI().getRawPath();
+            if (STATS_PATH.equals(path)) {
+                send(exchange, Response.ok(stats()));
+                return;
+            }
+
+            for (Route route : ROUTES) {
+                Matcher matcher = route.path.matcher(path);
+                if (route.method.equals(exchange.getRequestMethod()) && matcher.matches()) {
+                    serve(exchange, route, matcher, body);
+                    return;
+                }
+            }
+            send(exchange, new Response(404, Map.of("message", "No route for " + exchange.getRequestMethod() + " " + path)));
+        }
+    }
+
+    private void serve(HttpExchange exchange, Route route, Matcher path, byte[] body) throws IOException {
+        RouteStats routeStats = stats.get(route.name);
+        routeStats.requests.increment();
+        sleep(options.routeLatency.getOrDefault(route.name, options.latency));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (overRateLimit() || random.nextDouble() < options.throttleRate) {
+            routeStats.throttled.increment();
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(options.retryAfterSeconds));
+            send(exchange, new Response(429, Map.of("message", "Too Many Requests")));
+            return;
+        }
+        if (random.nextDouble() < options.errorRate) {
+            routeStats.errors.increment();
+            send(exchange, new Response(503, Map.of("message", "Service Unavailable (simulated)")));
+            return;
+        }
+        if (!route.name.equals("token")) {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+                routeStats.errors.increment();
+                send(exchange, new Response(401, Map.of("message", "Missing bearer token")));
+                return;
+            }
+        }
+
+        Response response;
+        try {
+            // Path parameters arrive URL-encoded (Hydra product codes contain spaces)
+            String param = path.groupCount() > 0 ? URLDecoder.decode(path.group(1), StandardCharsets.UTF_8) : null;
+            response = route.handler.handle(data, param, query(exchange.getRequestURI().getRawQuery()), body);
+        } catch (IOException | RuntimeException e) {
+            response = new Response(400, Map.of("message", String.valueOf(e.getMessage())));
+        }
+        (response.status < 400 ? routeStats.ok : routeStats.errors).increment();
+        send(exchange, response);
+    }
+
+    // Fixed one-second window shared by all routes
+    private boolean overRateLimit() {
+        if (options.maxRps <= 0) {
+            return false;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        long start = windowStart.get();
+        if (second != start && windowStart.compareAndSet(start, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() > options.maxRps;
+    }
+
+    private static void sleep(LatencyDistribution latency) {
+        long millis = latency.sampleMillis(ThreadLocalRandom.current());
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Like the real API, bodies of at least gzipMinBytes are gzipped when the client accepts it (negative: never)
+    private void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.body == null) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        byte[] bytes = MAPPER.writeValueAsBytes(response.body);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        if (options.gzipMinBytes >= 0 && bytes.length >= options.gzipMinBytes && acceptsGzip(exchange)) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accepted != null && accepted.toLowerCase().contains("gzip");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    // Turns a path constant such as /v1/cases/%s into a pattern capturing each %s
+    private static Route route(String name, String method, String pathTemplate, Handler handler) {
+        List<String> parts = new ArrayList<>(List.of(pathTemplate.split("%s", -1)));
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                regex.append("([^/]+)");
+            }
+            regex.append(Pattern.quote(parts.get(i)));
+        }
+        return new Route(name, method, Pattern.compile(regex.toString()), handler);
+    }
+
+    private static final class RouteStats {
+        final LongAdder requests = new LongAdder();
+        final LongAdder ok = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new LinkedHashMap<>();
+            snapshot.put("requests", requests.sum());
+            snapshot.put("ok", ok.sum());
+            snapshot.put("errors", errors.sum());
+            snapshot.put("throttled", throttled.sum());
+            return snapshot;
+        }
+    }
+}
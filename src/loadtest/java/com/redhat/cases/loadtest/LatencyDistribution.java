@@ -0,0 +1,95 @@
+package com.redhat.cases.loadtest;
+
+import java.util.Random;
+
+/**
+ * Response latency injected by the simulator.
+ *
+ * Specs:
+ * - none
+ * - fixed:MS
+ * - uniform:MIN-MAX
+ * - lognormal:MEDIAN,P99 (long-tailed, like real API latencies)
+ */
+final class LatencyDistribution {
+
+    static final LatencyDistribution NONE = new LatencyDistribution("none", Kind.NONE, 0, 0);
+
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private enum Kind { NONE, FIXED, UNIFORM, LOGNORMAL }
+
+    private final String spec;
+    private final Kind kind;
+    private final double a;
+    private final double b;
+
+    private LatencyDistribution(String spec, Kind kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String value = spec.trim();
+        int colon = value.indexOf(':');
+        String kind = colon < 0 ? value : value.substring(0, colon);
+        String args = colon < 0 ? "" : value.substring(colon + 1);
+        try {
+            switch (kind) {
+                case "none":
+                    return NONE;
+                case "fixed":
+                    return new LatencyDistribution(value, Kind.FIXED, nonNegative(args), 0);
+                case "uniform": {
+                    String[] range = args.split("-");
+                    double min = nonNegative(range[0]);
+                    double max = nonNegative(range[1]);
+                    if (max < min) {
+                        throw new IllegalArgumentException("max < min");
+                    }
+                    return new LatencyDistribution(value, Kind.UNIFORM, min, max);
+                }
+                case "lognormal": {
+                    String[] params = args.split(",");
+                    double median = nonNegative(params[0]);
+                    double p99 = nonNegative(params[1]);
+                    if (median <= 0 || p99 < median) {
+                        throw new IllegalArgumentException("expected 0 < median <= p99");
+                    }
+                    // mu and sigma of the underlying normal distribution
+                    return new LatencyDistribution(value, Kind.LOGNORMAL, Math.log(median), Math.log(p99 / median) / Z_99);
+                }
+                default:
+                    throw new IllegalArgumentException("unknown distribution '" + kind + "'");
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid latency '" + spec + "' (" + e.getMessage() +
+                "). Use none, fixed:MS, uniform:MIN-MAX or lognormal:MEDIAN,P99", e);
+        }
+    }
+
+    long sampleMillis(Random random) {
+        return switch (kind) {
+            case NONE -> 0;
+            case FIXED -> (long) a;
+            case UNIFORM -> (long) (a + random.nextDouble() * (b - a));
+            case LOGNORMAL -> (long) Math.exp(a + b * random.nextGaussian());
+        };
+    }
+
+    private static double nonNegative(String value) {
+        double parsed = Double.parseDouble(value.trim());
+        if (parsed < 0) {
+            throw new IllegalArgumentException("negative value " + value);
+        }
+        return parsed;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,58 @@
+package com.redhat.cases.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency samples and outcome counts of one tool.
+ *
+ * Every sample is kept (8 bytes each), so percentiles are exact rather than bucketed;
+ * a million calls take 8 MB.
+ */
+final class LatencyRecorder {
+
+    private long[] micros = new long[1024];
+    private int size;
+    private final LongAdder toolErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    synchronized void record(long nanos) {
+        if (size == micros.length) {
+            micros = Arrays.copyOf(micros, size * 2);
+        }
+        micros[size++] = nanos / 1_000;
+    }
+
+    /** Tool result flagged isError (e.g. the API returned an error). */
+    void toolError() {
+        toolErrors.increment();
+    }
+
+    /** No tool result: JSON-RPC error, transport failure or timeout. */
+    void failure() {
+        failures.increment();
+    }
+
+    synchronized Summary summary() {
+        long[] sorted = Arrays.copyOf(micros, size);
+        Arrays.sort(sorted);
+        return new Summary(size, toolErrors.sum(), failures.sum(),
+            percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+            sorted.length > 0 ? sorted[sorted.length - 1] / 1000.0 : 0);
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1000.0;
+    }
+
+    /**
+     * Calls counts every call that got a tool result (including tool errors); latencies in ms.
+     */
+    record Summary(long calls, long toolErrors, long failures, double p50, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,398 @@
+package com.redhat.cases.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test of the MCP server: concurrent simulated agents calling tools over
+ * SSE or stdio, against a server backed by the {@link ApiSimulator}.
+ *
+ * Starts the simulator in this JVM and the packaged server (target/quarkus-app) as a child
+ * process pointed at it, then runs a weighted tool mix for the warmup and measurement periods.
+ * Reports throughput and p50/p99/p999 latency per tool from the client side, and allocation
+ * rate, CPU, heap and thread counts of the server process from its /q/metrics endpoint.
+ *
+ * Run with: mvn -Ploadtest compile exec:java -Dexec.mainClass=com.redhat.cases.loadtest.LoadHarness
+ *           -Dexec.args="--transport sse --agents 50 --duration 60"
+ */
+public final class LoadHarness {
+
+    private static final long CALL_TIMEOUT_SECONDS = 60;
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+
+    private static final String[] SEARCH_QUERIES = {"upgrade", "kernel panic", "authentication", "timeout"};
+    private static final String[] SEARCH_PRODUCTS = {"OpenShift", "Enterprise Linux", "Ansible", "Satellite"};
+
+    static final class Options {
+        String transport = "sse";
+        String url;
+        String jar = "target/quarkus-app/quarkus-run.jar";
+        List<String> serverOpts = new ArrayList<>();
+        int agents = 16;
+        int warmupSeconds = 10;
+        int durationSeconds = 60;
+        long thinkMillis;
+        Map<String, Integer> mix = parseMix("searchCases=50,getCase=30,getStatistics=15,createCase=5");
+        ApiSimulator.Options simulator = new ApiSimulator.Options();
+        String output = "target/loadtest-result.json";
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--transport" -> {
+                        if (!value.equals("sse") && !value.equals("stdio")) {
+                            throw new IllegalArgumentException("--transport must be sse or stdio");
+                        }
+                        options.transport = value;
+                    }
+                    case "--url" -> options.url = value;
+                    case "--jar" -> options.jar = value;
+                    case "--server-opts" -> options.serverOpts = List.of(value.trim().split("\\s+"));
+                    case "--agents" -> options.agents = Integer.parseInt(value);
+                    case "--warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                    case "--duration" -> options.durationSeconds = Integer.parseInt(value);
+                    case "--think" -> options.thinkMillis = Long.parseLong(value);
+                    case "--mix" -> options.mix = parseMix(value);
+                    case "--simulator" -> options.simulator = ApiSimulator.Options.parse(value.trim().split("\\s+"));
+                    case "--output" -> options.output = value;
+                    default -> throw new IllegalArgumentException("Unknown option " + name);
+                }
+            }
+            if (options.url != null && options.transport.equals("stdio")) {
+                throw new IllegalArgumentException("--url applies to the sse transport only");
+            }
+            return options;
+        }
+
+        private static Map<String, Integer> parseMix(String spec) {
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.split("=");
+                String tool = parts[0].trim();
+                if (!List.of("searchCases", "getCase", "getStatistics", "createCase").contains(tool)) {
+                    throw new IllegalArgumentException("Unsupported tool in --mix: " + tool);
+                }
+                mix.put(tool, parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+            }
+            return mix;
+        }
+    }
+
+    private final Options options;
+    private final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final AtomicLong createdCases = new AtomicLong();
+    private volatile boolean measuring;
+
+    private LoadHarness(Options options) {
+        this.options = options;
+        options.mix.keySet().forEach(tool -> recorders.put(tool, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Options: --transport sse|stdio --url URL --jar PATH --server-opts \"JVM/-D options\"" +
+                " --agents N --warmup S --duration S --think MS --mix tool=weight,... --simulator \"simulator options\"" +
+                " --output FILE");
+            System.exit(2);
+            return;
+        }
+        new LoadHarness(options).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        if (options.url == null) {
+            // The spawned server is configured with whatever port the simulator gets
+            options.simulator.port(0);
+        }
+        try (ApiSimulator simulator = ApiSimulator.start(options.simulator)) {
+            URI base;
+            Process server = null;
+            if (options.url != null) {
+                base = URI.create(options.url.endsWith("/") ? options.url : options.url + "/");
+                System.out.println("Using server at " + base + "; it must run with:");
+                simulator.configProperties().forEach((key, value) -> System.out.println("  -D" + key + "=" + value));
+            } else {
+                int port = freePort();
+                base = URI.create("http://127.0.0.1:" + port + "/");
+                server = startServer(simulator, port);
+            }
+            try {
+                ServerMetrics metrics = new ServerMetrics(http, base.resolve("q/metrics"));
+                awaitServer(metrics, server);
+                List<McpSession> sessions = openSessions(base, server);
+                try {
+                    Map<String, Object> result = drive(sessions, metrics);
+                    result.put("simulator", simulator.stats());
+                    report(result);
+                } finally {
+                    for (McpSession session : sessions) {
+                        session.close();
+                    }
+                }
+            } finally {
+                if (server != null) {
+                    server.destroy();
+                    if (!server.waitFor(10, TimeUnit.SECONDS)) {
+                        server.destroyForcibly();
+                    }
+                }
+            }
+        }
+    }
+
+    private Process startServer(ApiSimulator simulator, int port) throws IOException {
+        if (!new File(options.jar).isFile()) {
+            throw new IllegalStateException("Server not built: " + options.jar + " (run ./mvnw package -DskipTests)");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        simulator.configProperties().forEach((key, value) -> command.add("-D" + key + "=" + value));
+        command.add("-Dquarkus.http.port=" + port);
+        command.add("-Dquarkus.http.host=127.0.0.1");
+        command.add("-Dquarkus.banner.enabled=false");
+        command.add("-Dquarkus.log.level=WARN");
+        command.add("-Dquarkus.mcp.server.traffic-logging.enabled=false");
+        // Simulated agents call far faster than the per-connection quotas allow real ones to
+        command.add("-Dredhat.api.connection-quota.enabled=false");
+        if (options.transport.equals("stdio")) {
+            // HTTP stays enabled so /q/metrics can be scraped; logs must not reach stdout
+            command.add("-Dquarkus.mcp.server.stdio.enabled=true");
+            command.add("-Dquarkus.log.console.stderr=true");
+        }
+        command.addAll(options.serverOpts);
+        command.add("-jar");
+        command.add(options.jar);
+
+        File log = new File("target/loadtest-server.log");
+        ProcessBuilder builder = new ProcessBuilder(command).redirectError(log);
+        if (options.transport.equals("sse")) {
+            builder.redirectOutput(ProcessBuilder.Redirect.appendTo(log));
+        }
+        System.out.println("Starting server (" + options.transport + "), log in " + log);
+        return builder.start();
+    }
+
+    private void awaitServer(ServerMetrics metrics, Process server) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+        while (true) {
+            try {
+                metrics.scrape();
+                return;
+            } catch (IOException e) {
+                if (server != null && !server.isAlive()) {
+                    throw new IllegalStateException("Server exited with code " + server.exitValue() +
+                        ", see target/loadtest-server.log");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new TimeoutException("Server not ready after " + STARTUP_TIMEOUT_SECONDS + "s");
+                }
+                Thread.sleep(250);
+            }
+        }
+    }
+
+    // One SSE connection per agent; stdio has a single connection shared by all agents
+    private List<McpSession> openSessions(URI base, Process server) throws Exception {
+        List<McpSession> sessions = new ArrayList<>();
+        if (options.transport.equals("stdio")) {
+            sessions.add(StdioSession.open(server, STARTUP_TIMEOUT_SECONDS));
+            return sessions;
+        }
+        for (int i = 0; i < options.agents; i++) {
+            sessions.add(SseSession.open(http, base.resolve("mcp/sse"), STARTUP_TIMEOUT_SECONDS));
+        }
+        return sessions;
+    }
+
+    private Map<String, Object> drive(List<McpSession> sessions, ServerMetrics metrics) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        System.out.printf("%d agents over %s, mix %s: %ds warmup, %ds measured%n",
+            options.agents, options.transport, options.mix, options.warmupSeconds, options.durationSeconds);
+
+        try (ExecutorService agents = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.agents; i++) {
+                McpSession session = sessions.get(i % sessions.size());
+                agents.execute(() -> agent(session, end));
+            }
+
+            sleepUntil(measureFrom);
+            measuring = true;
+            ServerMetrics.Sample first = metrics.scrape();
+            List<ServerMetrics.Sample> samples = new ArrayList<>();
+            samples.add(first);
+            while (System.nanoTime() < end) {
+                sleepUntil(Math.min(end, System.nanoTime() + TimeUnit.SECONDS.toNanos(1)));
+                samples.add(metrics.scrape());
+            }
+            measuring = false;
+            return results(samples);
+        }
+    }
+
+    private void agent(McpSession session, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            String tool = pick(random);
+            LatencyRecorder recorder = recorders.get(tool);
+            boolean measured = measuring;
+            long started = System.nanoTime();
+            try {
+                JsonNode result = session.callTool(tool, arguments(tool, random)).get(CALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (measured) {
+                    recorder.record(System.nanoTime() - started);
+                    if (result.path("isError").asBoolean()) {
+                        recorder.toolError();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (measured) {
+                    recorder.failure();
+                }
+            }
+            if (options.thinkMillis > 0) {
+                try {
+                    Thread.sleep(random.nextLong(options.thinkMillis * 2 + 1));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private String pick(ThreadLocalRandom random) {
+        int total = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+        int r = random.nextInt(total);
+        for (Map.Entry<String, Integer> entry : options.mix.entrySet()) {
+            r -= entry.getValue();
+            if (r < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // Arguments an agent would plausibly send; getCase hits the whole synthetic dataset
+    private Map<String, Object> arguments(String tool, ThreadLocalRandom random) {
+        return switch (tool) {
+            case "searchCases" -> switch (random.nextInt(5)) {
+                case 0 -> Map.of("query", SEARCH_QUERIES[random.nextInt(SEARCH_QUERIES.length)]);
+                case 1 -> Map.of("product", SEARCH_PRODUCTS[random.nextInt(SEARCH_PRODUCTS.length)]);
+                case 2 -> Map.of("status", "Waiting on Customer");
+                case 3 -> Map.of("includeClosed", true, "format", "compact");
+                default -> Map.of();
+            };
+            case "getCase" -> Map.of("caseNumber", SyntheticDataset.caseNumber(random.nextInt(options.simulator.cases)));
+            case "getStatistics" -> Map.of();
+            case "createCase" -> Map.of(
+                "title", "Load test case " + createdCases.incrementAndGet(),
+                "description", "Created by the load harness. The service fails to start after the last update.",
+                "product", "Red Hat Enterprise Linux",
+                "version", "9.4",
+                "priority", "LOW");
+            default -> throw new IllegalArgumentException(tool);
+        };
+    }
+
+    private Map<String, Object> results(List<ServerMetrics.Sample> samples) {
+        ServerMetrics.Sample first = samples.get(0);
+        ServerMetrics.Sample last = samples.get(samples.size() - 1);
+        double seconds = (last.nanoTime() - first.nanoTime()) / 1e9;
+
+        Map<String, Object> tools = new LinkedHashMap<>();
+        long calls = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue().summary();
+            tools.put(entry.getKey(), summary);
+            calls += summary.calls();
+        }
+
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("allocationMBPerSecond", (last.allocatedBytes() - first.allocatedBytes()) / seconds / (1024 * 1024));
+        server.put("cpuCoresAverage", samples.stream().mapToDouble(ServerMetrics.Sample::cpuCores).average().orElse(0));
+        server.put("liveThreadsMax", samples.stream().mapToDouble(ServerMetrics.Sample::liveThreads).max().orElse(0));
+        server.put("peakThreads", last.peakThreads());
+        server.put("heapUsedMBMax", samples.stream().mapToDouble(ServerMetrics.Sample::heapUsedBytes).max().orElse(0) / (1024 * 1024));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("transport", options.transport);
+        result.put("agents", options.agents);
+        result.put("seconds", seconds);
+        result.put("throughputPerSecond", calls / seconds);
+        result.put("tools", tools);
+        result.put("server", server);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void report(Map<String, Object> result) throws IOException {
+        System.out.printf(Locale.ROOT, "%nThroughput: %.1f calls/s over %.0fs%n%n",
+            (double) result.get("throughputPerSecond"), (double) result.get("seconds"));
+        System.out.printf(Locale.ROOT, "%-14s %8s %8s %8s %9s %9s %9s %9s%n",
+            "tool", "calls", "isError", "failed", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        ((Map<String, LatencyRecorder.Summary>) result.get("tools")).forEach((tool, s) ->
+            System.out.printf(Locale.ROOT, "%-14s %8d %8d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                tool, s.calls(), s.toolErrors(), s.failures(), s.p50(), s.p99(), s.p999(), s.max()));
+
+        Map<String, Object> server = (Map<String, Object>) result.get("server");
+        System.out.printf(Locale.ROOT, "%nServer: %.1f MB/s allocated, %.2f cores, heap max %.0f MB, threads %.0f live (max), %.0f peak%n",
+            server.get("allocationMBPerSecond"), server.get("cpuCoresAverage"), server.get("heapUsedMBMax"),
+            server.get("liveThreadsMax"), server.get("peakThreads"));
+        System.out.println("Allocation is measured at GC boundaries, so short runs under-report it.");
+
+        File output = new File(options.output);
+        ApiSimulator.MAPPER.writer(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+        System.out.println("Results written to " + output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.redhat.cases.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal MCP client connection: JSON-RPC requests matched to their responses by id.
+ *
+ * Requests may be issued concurrently from any thread; transports only send and receive
+ * single JSON-RPC messages.
+ */
+abstract class McpSession implements AutoCloseable {
+
+    private static final String PROTOCOL_VERSION = "2024-11-05";
+
+    private final AtomicLong ids = new AtomicLong();
+    private final Map<Long, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * JSON-RPC error returned by the server (as opposed to a tool result flagged as error).
+     */
+    static final class RpcException extends RuntimeException {
+        RpcException(JsonNode error) {
+            super(error.path("code").asInt() + " " + error.path("message").asText());
+        }
+    }
+
+    void initialize(long timeoutSeconds) throws Exception {
+        request("initialize", Map.of(
+            "protocolVersion", PROTOCOL_VERSION,
+            "capabilities", Map.of(),
+            "clientInfo", Map.of("name", "redhat-cases-loadtest", "version", "1.0")))
+            .get(timeoutSeconds, TimeUnit.SECONDS);
+        send(ApiSimulator.MAPPER.writeValueAsString(Map.of("jsonrpc", "2.0", "method", "notifications/initialized")));
+    }
+
+    /**
+     * Calls a tool; completes with the tool result (content, isError...).
+     */
+    CompletableFuture<JsonNode> callTool(String name, Map<String, Object> arguments) {
+        return request("tools/call", Map.of("name", name, "arguments", arguments));
+    }
+
+    CompletableFuture<JsonNode> request(String method, Object params) {
+        long id = ids.incrementAndGet();
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        pending.put(id, future);
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("id", id);
+        message.put("method", method);
+        message.put("params", params);
+        try {
+            send(ApiSimulator.MAPPER.writeValueAsString(message));
+        } catch (IOException | RuntimeException e) {
+            pending.remove(id);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    protected abstract void send(String message) throws IOException;
+
+    /**
+     * Handles one message from the server: a response to a pending request or a server request.
+     */
+    protected void received(String message) throws IOException {
+        JsonNode json = ApiSimulator.MAPPER.readTree(message);
+        if (json.has("method")) {
+            // Server-initiated request (ping) or notification; only requests carry an id
+            if (json.has("id")) {
+                send(ApiSimulator.MAPPER.writeValueAsString(
+                    Map.of("jsonrpc", "2.0", "id", json.get("id"), "result", Map.of())));
+            }
+            return;
+        }
+        CompletableFuture<JsonNode> future = pending.remove(json.path("id").asLong());
+        if (future == null) {
+            return;
+        }
+        if (json.has("error")) {
+            future.completeExceptionally(new RpcException(json.get("error")));
+        } else {
+            future.complete(json.get("result"));
+        }
+    }
+
+    protected void failPending(Throwable cause) {
+        pending.values().forEach(future -> future.completeExceptionally(cause));
+        pending.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.redhat.cases.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JVM metrics of the server under test, read from its Prometheus endpoint (/q/metrics).
+ */
+final class ServerMetrics {
+
+    private final HttpClient http;
+    private final URI uri;
+
+    ServerMetrics(HttpClient http, URI uri) {
+        this.http = http;
+        this.uri = uri;
+    }
+
+    /**
+     * One scrape: series (name plus labels) to value.
+     */
+    Sample scrape() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + uri + " returned HTTP " + response.statusCode());
+        }
+        Map<String, Double> series = new HashMap<>();
+        for (String line : response.body().split("\n")) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int space = line.lastIndexOf(' ');
+            try {
+                series.put(line.substring(0, space), Double.parseDouble(line.substring(space + 1)));
+            } catch (NumberFormatException e) {
+                // Not a sample line
+            }
+        }
+        return new Sample(System.nanoTime(), series);
+    }
+
+    record Sample(long nanoTime, Map<String, Double> series) {
+
+        /**
+         * Sum of every series of the metric whose labels contain {@code labelFilter} (empty for all).
+         */
+        double sum(String metric, String labelFilter) {
+            double sum = 0;
+            for (Map.Entry<String, Double> entry : series.entrySet()) {
+                String key = entry.getKey();
+                if ((key.equals(metric) || key.startsWith(metric + "{")) && key.contains(labelFilter)) {
+                    sum += entry.getValue();
+                }
+            }
+            return sum;
+        }
+
+        double allocatedBytes() {
+            return sum("jvm_gc_memory_allocated_bytes_total", "");
+        }
+
+        double liveThreads() {
+            return sum("jvm_threads_live_threads", "");
+        }
+
+        double peakThreads() {
+            return sum("jvm_threads_peak_threads", "");
+        }
+
+        double heapUsedBytes() {
+            return sum("jvm_memory_used_bytes", "area=\"heap\"");
+        }
+
+        /** Recent CPU usage of the server process, in cores. */
+        double cpuCores() {
+            return sum("process_cpu_usage", "") * sum("system_cpu_count", "");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.redhat.cases.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * MCP over HTTP+SSE: server messages arrive on a GET event stream, client messages are POSTed
+ * to the endpoint announced in its first event.
+ */
+final class SseSession extends McpSession {
+
+    private final HttpClient http;
+    private final CompletableFuture<URI> endpoint = new CompletableFuture<>();
+    private final CompletableFuture<HttpResponse<Stream<String>>> stream;
+
+    private SseSession(HttpClient http, URI sse) {
+        this.http = http;
+        HttpRequest request = HttpRequest.newBuilder(sse)
+            .header("Accept", "text/event-stream")
+            .GET()
+            .build();
+        this.stream = http.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        Thread.ofVirtual().name("sse-reader").start(() -> read(sse));
+    }
+
+    static SseSession open(HttpClient http, URI sse, long timeoutSeconds) throws Exception {
+        SseSession session = new SseSession(http, sse);
+        try {
+            session.endpoint.get(timeoutSeconds, TimeUnit.SECONDS);
+            session.initialize(timeoutSeconds);
+        } catch (Exception e) {
+            session.close();
+            throw e;
+        }
+        return session;
+    }
+
+    @Override
+    protected void send(String message) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint.join())
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(message))
+            .build();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                throw new IOException("POST " + request.uri() + " returned HTTP " + response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        }
+    }
+
+    private void read(URI sse) {
+        String event = "message";
+        StringBuilder data = new StringBuilder();
+        try (Stream<String> lines = stream.join().body()) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (line.isEmpty()) {
+                    dispatch(sse, event, data.toString());
+                    event = "message";
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(5).trim());
+                }
+            }
+            failPending(new IOException("SSE stream closed"));
+        } catch (Exception e) {
+            endpoint.completeExceptionally(e);
+            failPending(e);
+        }
+    }
+
+    private void dispatch(URI sse, String event, String data) throws IOException {
+        if (data.isEmpty()) {
+            return;
+        }
+        if ("endpoint".equals(event)) {
+            endpoint.complete(sse.resolve(data));
+        } else {
+            received(data);
+        }
+    }
+
+    @Override
+    public void close() {
+        stream.cancel(true);
+        stream.thenAccept(response -> response.body().close());
+    }
+}
@@ -0,0 +1,61 @@
+package com.redhat.cases.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MCP over stdio: newline-delimited JSON-RPC on the server process' stdin and stdout.
+ *
+ * A stdio server has a single connection, so all agents share this session and their
+ * requests are multiplexed by id.
+ */
+final class StdioSession extends McpSession {
+
+    private final Process process;
+    private final OutputStream stdin;
+
+    private StdioSession(Process process) {
+        this.process = process;
+        this.stdin = process.getOutputStream();
+        Thread.ofVirtual().name("stdio-reader").start(this::read);
+    }
+
+    static StdioSession open(Process process, long timeoutSeconds) throws Exception {
+        StdioSession session = new StdioSession(process);
+        session.initialize(timeoutSeconds);
+        return session;
+    }
+
+    @Override
+    protected void send(String message) throws IOException {
+        byte[] bytes = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (stdin) {
+            stdin.write(bytes);
+            stdin.flush();
+        }
+    }
+
+    private void read() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Anything that is not JSON-RPC (stray log output) is ignored
+                if (line.startsWith("{")) {
+                    received(line);
+                }
+            }
+            failPending(new IOException("Server stdout closed"));
+        } catch (IOException e) {
+            failPending(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stdin.close();
+    }
+}
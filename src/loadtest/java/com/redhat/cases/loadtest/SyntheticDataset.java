@@ -0,0 +1,390 @@
+package com.redhat.cases.loadtest;
+
+import com.redhat.cases.dto.AccountInfoDto;
+import com.redhat.cases.dto.ApiValues;
+import com.redhat.cases.dto.AddCommentRequestDto;
+import com.redhat.cases.dto.CaseCommentDto;
+import com.redhat.cases.dto.CaseDetailDto;
+import com.redhat.cases.dto.CaseFilterRequestDto;
+import com.redhat.cases.dto.CaseListResponseDto;
+import com.redhat.cases.dto.CreateCaseRequestDto;
+import com.redhat.cases.dto.EntitlementDto;
+import com.redhat.cases.dto.ProductDto;
+import com.redhat.cases.dto.UpdateCaseRequestDto;
+import com.redhat.cases.dto.VersionDto;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.CaseStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Deterministic synthetic account for the API simulator: cases, comments, entitlements and products.
+ *
+ * Cases are generated up front from the seed; comment histories are generated on first access,
+ * so datasets of any size start quickly. Writes (create, update, add comment) are applied in memory.
+ */
+final class SyntheticDataset {
+
+    private static final String ACCOUNT_NUMBER = "5512345";
+    private static final int FIRST_CASE_NUMBER = 3_000_000;
+
+    private static final String[][] PRODUCTS = {
+        {"OpenShift Container Platform", "4.12", "4.13", "4.14", "4.15", "4.16"},
+        {"Red Hat Enterprise Linux", "8.8", "8.10", "9.2", "9.3", "9.4"},
+        {"Red Hat Ansible Automation Platform", "2.3", "2.4"},
+        {"Red Hat Satellite or Proxy", "6.14", "6.15"},
+        {"Red Hat OpenShift Data Foundation", "4.14", "4.15"},
+        {"Red Hat JBoss Enterprise Application Platform", "7.4", "8.0"},
+    };
+
+    // Statuses and severities the Cases API returns (see ApiValues), with their share of cases
+    private static final CaseStatus[] STATUSES = {CaseStatus.NEW, CaseStatus.WAITING_CUSTOMER, CaseStatus.CLOSED};
+    private static final int[] STATUS_WEIGHTS = {35, 25, 40};
+    private static final CasePriority[] SEVERITIES = {CasePriority.URGENT, CasePriority.HIGH, CasePriority.NORMAL, CasePriority.LOW};
+    private static final int[] SEVERITY_WEIGHTS = {5, 20, 55, 20};
+
+    private static final String[] SUBJECTS = {
+        "upgrade stuck, operator degraded", "kernel panic under load after errata", "pods in CrashLoopBackOff after node replacement",
+        "authentication fails after certificate rotation", "performance degradation since last update",
+        "question about support lifecycle", "installation fails with timeout", "memory leak in long-running service",
+    };
+    private static final String[] COMMENTS = {
+        "Attached must-gather and sosreport from the affected nodes.",
+        "Thank you for the data. The logs show the service failing to acquire the lease; could you share the output of the status command?",
+        "Output attached. The issue reproduces every time the workload scales above 50 replicas.",
+        "This matches a known issue fixed in the next z-stream. As a workaround, increase the timeout and restart the component.",
+        "Workaround applied, monitoring for 24 hours.",
+        "Case severity reviewed; SLA timer updated.",
+    };
+
+    private final long seed;
+    private final int averageComments;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    private final Map<String, CaseDetailDto> cases = new ConcurrentHashMap<>();
+    private final Map<String, List<CaseCommentDto>> comments = new ConcurrentHashMap<>();
+    private volatile List<CaseDetailDto> byLastModified;
+    private int nextCaseIndex;
+
+    SyntheticDataset(int caseCount, int averageComments, long seed) {
+        this.seed = seed;
+        this.averageComments = averageComments;
+        Random random = new Random(seed);
+        List<CaseDetailDto> generated = new ArrayList<>(caseCount);
+        for (int i = 0; i < caseCount; i++) {
+            CaseDetailDto c = generateCase(random, caseNumber(i));
+            generated.add(c);
+            cases.put(c.getCaseNumber(), c);
+        }
+        nextCaseIndex = caseCount;
+        byLastModified = sorted(generated);
+    }
+
+    /**
+     * Number of the index-th generated case; the same for every seed.
+     */
+    static String caseNumber(int index) {
+        return String.format("%08d", FIRST_CASE_NUMBER + index);
+    }
+
+    int size() {
+        return cases.size();
+    }
+
+    /**
+     * One page of cases matching the filter, without comments, as POST /v1/cases/filter returns it.
+     */
+    CaseListResponseDto filter(CaseFilterRequestDto filter) {
+        List<CaseDetailDto> ordered = byLastModified;
+        if ("createdDate".equals(filter.getSortField())) {
+            ordered = new ArrayList<>(ordered);
+            ordered.sort(Comparator.comparing(CaseDetailDto::getCreatedDate).reversed());
+        }
+        boolean ascending = "ASC".equalsIgnoreCase(filter.getSortOrder());
+        int offset = filter.getOffset() != null ? Math.max(0, filter.getOffset()) : 0;
+        int maxResults = filter.getMaxResults() != null ? Math.max(0, filter.getMaxResults()) : 50;
+
+        List<CaseDetailDto> page = new ArrayList<>(Math.min(maxResults, 1024));
+        int matched = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            CaseDetailDto c = ordered.get(ascending ? ordered.size() - 1 - i : i);
+            if (matches(c, filter)) {
+                if (matched >= offset && page.size() < maxResults) {
+                    page.add(c);
+                }
+                matched++;
+            }
+        }
+
+        CaseListResponseDto response = new CaseListResponseDto();
+        response.setTotalCount(matched);
+        response.setCases(page);
+        return response;
+    }
+
+    /**
+     * A case with its comment history, as GET /v1/cases/{caseNumber} returns it.
+     */
+    Optional<CaseDetailDto> detail(String caseNumber) {
+        CaseDetailDto c = cases.get(caseNumber);
+        if (c == null) {
+            return Optional.empty();
+        }
+        CaseDetailDto detail = copy(c);
+        detail.setComments(comments(caseNumber, null).orElse(List.of()));
+        return Optional.of(detail);
+    }
+
+    Optional<List<CaseCommentDto>> comments(String caseNumber, Instant startDate) {
+        CaseDetailDto c = cases.get(caseNumber);
+        if (c == null) {
+            return Optional.empty();
+        }
+        List<CaseCommentDto> history = comments.computeIfAbsent(caseNumber, n -> generateComments(c));
+        synchronized (history) {
+            if (startDate == null) {
+                return Optional.of(List.copyOf(history));
+            }
+            return Optional.of(history.stream()
+                .filter(comment -> comment.getCreatedDate().isAfter(startDate))
+                .toList());
+        }
+    }
+
+    synchronized String create(CreateCaseRequestDto request) {
+        Instant created = Instant.now();
+        CaseDetailDto c = new CaseDetailDto();
+        c.setCaseNumber(caseNumber(nextCaseIndex++));
+        c.setSummary(request.getSummary());
+        c.setDescription(request.getDescription());
+        c.setProduct(request.getProduct());
+        c.setVersion(request.getVersion());
+        c.setSeverity(ApiValues.SEVERITIES.get(request.getSeverity(), CasePriority.NORMAL));
+        c.setStatus(CaseStatus.NEW);
+        c.setCaseType(request.getCaseType());
+        c.setAccountNumber(ACCOUNT_NUMBER);
+        c.setContactSSOName(request.getContactSSOName());
+        c.setCreatedDate(created);
+        c.setLastModifiedDate(created);
+        c.setIsClosed(false);
+        cases.put(c.getCaseNumber(), c);
+        comments.put(c.getCaseNumber(), new ArrayList<>());
+        byLastModified = sorted(cases.values());
+        return c.getCaseNumber();
+    }
+
+    synchronized Optional<CaseDetailDto> update(String caseNumber, UpdateCaseRequestDto request) {
+        CaseDetailDto current = cases.get(caseNumber);
+        if (current == null) {
+            return Optional.empty();
+        }
+        // Copy on write: readers may be serializing the current instance
+        CaseDetailDto c = copy(current);
+        if (request.getStatus() != null) {
+            c.setStatus(ApiValues.STATUSES.get(request.getStatus(), CaseStatus.IN_PROGRESS));
+            c.setIsClosed(c.getStatus() == CaseStatus.CLOSED);
+            c.setClosedDate(Boolean.TRUE.equals(c.getIsClosed()) ? Instant.now() : null);
+        }
+        if (request.getContactSSOName() != null) {
+            c.setContactSSOName(request.getContactSSOName());
+        }
+        if (request.getSeverity() != null) {
+            c.setSeverity(ApiValues.SEVERITIES.get(request.getSeverity(), CasePriority.NORMAL));
+        }
+        c.setLastModifiedDate(Instant.now());
+        cases.put(caseNumber, c);
+        byLastModified = sorted(cases.values());
+        return detail(caseNumber);
+    }
+
+    Optional<CaseCommentDto> addComment(String caseNumber, AddCommentRequestDto request) {
+        CaseDetailDto c = cases.get(caseNumber);
+        if (c == null) {
+            return Optional.empty();
+        }
+        List<CaseCommentDto> history = comments.computeIfAbsent(caseNumber, n -> generateComments(c));
+        CaseCommentDto comment = comment(caseNumber, history.size(), request.getCommentBody(), "Load Test", "Customer", Instant.now());
+        synchronized (history) {
+            history.add(comment);
+        }
+        synchronized (this) {
+            CaseDetailDto updated = copy(cases.get(caseNumber));
+            updated.setLastModifiedDate(comment.getCreatedDate());
+            cases.put(caseNumber, updated);
+            byLastModified = sorted(cases.values());
+        }
+        return Optional.of(comment);
+    }
+
+    AccountInfoDto account() {
+        AccountInfoDto account = new AccountInfoDto();
+        account.setAccountId("1979710");
+        account.setAccountNumber(ACCOUNT_NUMBER);
+        account.setName("Load Test Account");
+        account.setAccountStatus("Active");
+        account.setIsActive(true);
+        account.setSuperRegion("EMEA");
+        account.setIdentifyingAddressCountry("ES");
+        account.setHasEnhancedSLA(false);
+        return account;
+    }
+
+    List<EntitlementDto> entitlements() {
+        List<EntitlementDto> entitlements = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS.length; i++) {
+            EntitlementDto e = new EntitlementDto();
+            e.setId("ent-" + i);
+            e.setName(PRODUCTS[i][0] + (i % 3 == 2 ? ", Self-Support" : ", Premium (2 Cores or 4 vCPUs)"));
+            e.setStartDate("2024-06-01");
+            e.setEndDate("2027-05-31");
+            e.setServiceLevel(i % 3 == 2 ? "SELF-SUPPORT" : "PREMIUM");
+            e.setSupportLevel(i % 3 == 2 ? "SELF-SUPPORTED" : "PREMIUM");
+            entitlements.add(e);
+        }
+        return entitlements;
+    }
+
+    List<ProductDto> products() {
+        List<ProductDto> products = new ArrayList<>();
+        for (String[] product : PRODUCTS) {
+            ProductDto p = new ProductDto();
+            p.setCode(product[0]);
+            p.setName(product[0]);
+            p.setActive(true);
+            products.add(p);
+        }
+        return products;
+    }
+
+    Optional<List<VersionDto>> versions(String productCode) {
+        for (String[] product : PRODUCTS) {
+            if (product[0].equalsIgnoreCase(productCode)) {
+                List<VersionDto> versions = new ArrayList<>();
+                for (int i = 1; i < product.length; i++) {
+                    VersionDto v = new VersionDto();
+                    v.setId(product[0] + "-" + product[i]);
+                    v.setName(product[i]);
+                    v.setIsDefault(i == product.length - 1);
+                    versions.add(v);
+                }
+                return Optional.of(versions);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private CaseDetailDto generateCase(Random random, String caseNumber) {
+        String[] product = PRODUCTS[random.nextInt(PRODUCTS.length)];
+        CaseStatus status = pick(random, STATUSES, STATUS_WEIGHTS);
+        Instant created = now.minus(Duration.ofMinutes(random.nextInt(365 * 24 * 60)));
+        Instant modified = created.plus(Duration.ofMinutes(random.nextInt(
+            (int) Math.max(1, Duration.between(created, now).toMinutes()))));
+
+        CaseDetailDto c = new CaseDetailDto();
+        c.setCaseNumber(caseNumber);
+        c.setSummary(product[0] + " " + product[1 + random.nextInt(product.length - 1)] + ": "
+            + SUBJECTS[random.nextInt(SUBJECTS.length)]);
+        c.setDescription("Synthetic case generated for load testing. " + COMMENTS[random.nextInt(COMMENTS.length)]);
+        c.setStatus(status);
+        c.setSeverity(pick(random, SEVERITIES, SEVERITY_WEIGHTS));
+        c.setProduct(product[0]);
+        c.setVersion(product[1 + random.nextInt(product.length - 1)]);
+        c.setCaseType("Defect / Bug");
+        c.setAccountNumber(ACCOUNT_NUMBER);
+        c.setContactSSOName("user" + random.nextInt(20));
+        c.setCreatedDate(created);
+        c.setLastModifiedDate(modified);
+        c.setIsClosed(status == CaseStatus.CLOSED);
+        c.setClosedDate(status == CaseStatus.CLOSED ? modified : null);
+        c.setEntitlementSla("PREMIUM");
+        c.setCaseLanguage("en");
+        return c;
+    }
+
+    // Seeded per case, so a case always gets the same history regardless of access order
+    private List<CaseCommentDto> generateComments(CaseDetailDto c) {
+        Random random = new Random(seed ^ c.getCaseNumber().hashCode());
+        int count = averageComments == 0 ? 0 : random.nextInt(2 * averageComments + 1);
+        List<CaseCommentDto> history = new ArrayList<>(count + 4);
+        long span = Math.max(1, Duration.between(c.getCreatedDate(), c.getLastModifiedDate()).toMinutes());
+        for (int i = 0; i < count; i++) {
+            Instant created = c.getCreatedDate().plus(Duration.ofMinutes(span * (i + 1) / (count + 1)));
+            boolean customer = i % 2 == 0;
+            history.add(comment(c.getCaseNumber(), i, COMMENTS[random.nextInt(COMMENTS.length)],
+                customer ? "Customer, Synthetic" : "Engineer, Support", customer ? "Customer" : "Associate", created));
+        }
+        return history;
+    }
+
+    private static CaseCommentDto comment(String caseNumber, int index, String body, String author, String authorType,
+                                          Instant created) {
+        CaseCommentDto comment = new CaseCommentDto();
+        comment.setId(caseNumber + "-c" + index);
+        comment.setCaseNumber(caseNumber);
+        comment.setCommentBody(body);
+        comment.setCreatedBy(author);
+        comment.setCreatedByType(authorType);
+        comment.setCreatedDate(created);
+        comment.setLastModifiedDate(created);
+        comment.setPublishedDate(created);
+        comment.setContentType("plaintext");
+        comment.setIsDraft(false);
+        return comment;
+    }
+
+    private static boolean matches(CaseDetailDto c, CaseFilterRequestDto filter) {
+        if (!Boolean.TRUE.equals(filter.getIncludeClosed()) && Boolean.TRUE.equals(c.getIsClosed())) {
+            return false;
+        }
+        return (filter.getStatus() == null || ApiValues.STATUSES.get(filter.getStatus(), null) == c.getStatus())
+            && (filter.getSeverity() == null || ApiValues.SEVERITIES.get(filter.getSeverity(), null) == c.getSeverity())
+            && containsIfSet(filter.getProduct(), CaseDetailDto::getProduct, c)
+            && (filter.getKeyword() == null
+                || containsIfSet(filter.getKeyword(), CaseDetailDto::getSummary, c)
+                || containsIfSet(filter.getKeyword(), CaseDetailDto::getDescription, c)
+                || filter.getKeyword().equals(c.getCaseNumber()))
+            && (filter.getCaseNumbers() == null || filter.getCaseNumbers().contains(c.getCaseNumber()));
+    }
+
+    private static boolean containsIfSet(String expected, Function<CaseDetailDto, String> field, CaseDetailDto c) {
+        String actual = field.apply(c);
+        return expected == null || (actual != null
+            && actual.toLowerCase(Locale.ROOT).contains(expected.toLowerCase(Locale.ROOT)));
+    }
+
+    private static <T> T pick(Random random, T[] values, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static List<CaseDetailDto> sorted(Collection<CaseDetailDto> cases) {
+        List<CaseDetailDto> ordered = new ArrayList<>(cases);
+        ordered.sort(Comparator.comparing(CaseDetailDto::getLastModifiedDate).reversed());
+        return List.copyOf(ordered);
+    }
+
+    private static CaseDetailDto copy(CaseDetailDto c) {
+        return ApiSimulator.MAPPER.convertValue(c, CaseDetailDto.class);
+    }
+}
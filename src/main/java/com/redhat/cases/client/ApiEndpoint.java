@@ -0,0 +1,30 @@
+package com.redhat.cases.client;
+
+/**
+ * Servicios remotos de Red Hat a los que accede el servidor.
+ * Cada uno tiene su propio circuit breaker.
+ */
+public enum ApiEndpoint {
+    CASES("api.access.redhat.com", true),
+    HYDRA("access.redhat.com/hydra", true),
+    SSO("sso.redhat.com", false);
+
+    private final String host;
+    private final boolean rateLimited;
+
+    ApiEndpoint(String host, boolean rateLimited) {
+        this.host = host;
+        this.rateLimited = rateLimited;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * true si las peticiones pasan por el limitador compartido.
+     */
+    public boolean isRateLimited() {
+        return rateLimited;
+    }
+}
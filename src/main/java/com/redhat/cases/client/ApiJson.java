@@ -0,0 +1,73 @@
+package com.redhat.cases.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.redhat.cases.dto.*;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Lectores y escritores JSON de los DTO de la API, creados una sola vez al arrancar.
+ *
+ * Cada ObjectReader/ObjectWriter resuelve su (de)serializador al construirse, asi que las
+ * llamadas no lo buscan en las caches del ObjectMapper ni crean TypeReference por respuesta.
+ * Son inmutables y se comparten entre hilos.
+ *
+ * Singleton, sin proxy de cliente: los clientes leen los campos directamente.
+ */
+@Singleton
+public class ApiJson {
+
+    final ObjectReader caseList;
+    final ObjectReader caseDetail;
+    final ObjectReader caseLocation;
+    final ObjectReader comment;
+    final ObjectReader comments;
+    final ObjectReader account;
+    final ObjectReader entitlements;
+    final ObjectReader products;
+    final ObjectReader versions;
+
+    final ObjectWriter caseFilter;
+    final ObjectWriter createCase;
+    final ObjectWriter updateCase;
+    final ObjectWriter addComment;
+
+    @Inject
+    public ApiJson(ObjectMapper objectMapper) {
+        this.caseList = objectMapper.readerFor(CaseListResponseDto.class);
+        this.caseDetail = objectMapper.readerFor(CaseDetailDto.class);
+        this.caseLocation = objectMapper.readerFor(CaseLocationDto.class);
+        this.comment = objectMapper.readerFor(CaseCommentDto.class);
+        this.comments = objectMapper.readerFor(new TypeReference<List<CaseCommentDto>>() {});
+        this.account = objectMapper.readerFor(AccountInfoDto.class);
+        this.entitlements = objectMapper.readerFor(new TypeReference<List<EntitlementDto>>() {});
+        this.products = objectMapper.readerFor(new TypeReference<List<ProductDto>>() {});
+        this.versions = objectMapper.readerFor(new TypeReference<List<VersionDto>>() {});
+
+        this.caseFilter = objectMapper.writerFor(CaseFilterRequestDto.class);
+        this.createCase = objectMapper.writerFor(CreateCaseRequestDto.class);
+        this.updateCase = objectMapper.writerFor(UpdateCaseRequestDto.class);
+        this.addComment = objectMapper.writerFor(AddCommentRequestDto.class);
+    }
+
+    /**
+     * Lee el cuerpo de una respuesta; si viene comprimido se descomprime a la vez que se analiza.
+     */
+    static <T> T read(ObjectReader reader, HttpResponse<byte[]> response) throws IOException {
+        if (!ContentEncoding.isEncoded(response)) {
+            return reader.readValue(response.body());
+        }
+        try (InputStream in = ContentEncoding.open(response)) {
+            return reader.readValue(in);
+        }
+    }
+}
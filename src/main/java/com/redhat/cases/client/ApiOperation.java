@@ -0,0 +1,57 @@
+package com.redhat.cases.client;
+
+/**
+ * Operaciones sobre las APIs de Red Hat.
+ * Indica el endpoint al que pertenece cada operacion y si puede reintentarse
+ * automaticamente sin efectos duplicados.
+ */
+public enum ApiOperation {
+    LIST_CASES(ApiEndpoint.CASES, true),
+    GET_CASE(ApiEndpoint.CASES, true),
+    CREATE_CASE(ApiEndpoint.CASES, false),
+    UPDATE_CASE(ApiEndpoint.CASES, false),
+    GET_COMMENTS(ApiEndpoint.CASES, true),
+    ADD_COMMENT(ApiEndpoint.CASES, false),
+    GET_ACCOUNT(ApiEndpoint.CASES, true),
+    GET_ENTITLEMENTS(ApiEndpoint.CASES, true),
+    GET_PRODUCTS(ApiEndpoint.HYDRA, true),
+    GET_PRODUCT_VERSIONS(ApiEndpoint.HYDRA, true),
+    SSO_TOKEN(ApiEndpoint.SSO, true);
+
+    private final ApiEndpoint endpoint;
+    private final boolean idempotent;
+
+    ApiOperation(ApiEndpoint endpoint, boolean idempotent) {
+        this.endpoint = endpoint;
+        this.idempotent = idempotent;
+    }
+
+    public ApiEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Clave de configuracion de la operacion (p. ej. {@code get-case}).
+     */
+    public String configKey() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * true si la operacion es una lectura sensible a latencia que admite peticiones
+     * de cobertura (hedging): se puede lanzar una segunda copia si la primera tarda.
+     */
+    public boolean isHedgeable() {
+        return switch (this) {
+            case GET_CASE, GET_COMMENTS, GET_ACCOUNT, GET_PRODUCTS, GET_PRODUCT_VERSIONS -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * true si la operacion no modifica estado (GET, POST de filtrado o intercambio de token).
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+}
@@ -0,0 +1,431 @@
+package com.redhat.cases.client;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import com.redhat.cases.config.RedHatApiConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.BlockingOperationNotAllowedException;
+import io.vertx.core.Context;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Ejecutor HTTP compartido por los clientes de la API de casos, Hydra y SSO.
+ * Centraliza el limitador de peticiones, el tratamiento de HTTP 429 / Retry-After,
+ * los reintentos de operaciones idempotentes, un circuit breaker por endpoint y
+ * los timeouts por operacion acotados por el {@link Deadline} de la invocacion
+ * y las peticiones de cobertura (hedging) de lecturas sensibles a latencia.
+ */
+@ApplicationScoped
+public class ApiRequestExecutor {
+
+    static final int TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(500, 502, 503, 504);
+    private static final Duration MAX_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final RedHatApiConfig config;
+    private final RateLimiter rateLimiter;
+    private final HttpClient httpClient;
+    private final Map<ApiEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(ApiEndpoint.class);
+    private final Map<ApiOperation, LatencyTracker> latencies = new EnumMap<>(ApiOperation.class);
+    private final Map<ApiOperation, Counter> hedgeCounters = new EnumMap<>(ApiOperation.class);
+    private final Semaphore hedgesInFlight;
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final ConnectionQuotas quotas;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @Inject
+    public ApiRequestExecutor(RedHatApiConfig config, RateLimiter rateLimiter, MeterRegistry registry, Tracer tracer,
+                              ConnectionQuotas quotas) {
+        this.config = config;
+        this.rateLimiter = rateLimiter;
+        this.hedgesInFlight = new Semaphore(config.hedging().maxInFlight());
+        this.registry = registry;
+        this.tracer = tracer;
+        this.quotas = quotas;
+        Gauge.builder("redhat.api.requests.inflight", inFlight, AtomicInteger::get)
+                .description("Llamadas en curso a las APIs de Red Hat")
+                .register(registry);
+        for (ApiEndpoint endpoint : ApiEndpoint.values()) {
+            circuitBreakers.put(endpoint, new CircuitBreaker(endpoint, config.circuitBreaker()));
+        }
+        for (ApiOperation operation : ApiOperation.values()) {
+            if (operation.isHedgeable()) {
+                latencies.put(operation, new LatencyTracker(256));
+                hedgeCounters.put(operation, Counter.builder("redhat.api.hedged.requests")
+                        .description("Peticiones de cobertura enviadas")
+                        .tag("operation", operation.configKey())
+                        .register(registry));
+            }
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(config.timeouts().connectSeconds()))
+                .build();
+    }
+
+    /**
+     * Envia la peticion respetando el limitador.
+     * Un HTTP 429 se reintenta tras el Retry-After hasta el maximo configurado;
+     * la API no ha procesado la peticion, por lo que es seguro incluso para POST.
+     * Los errores transitorios (5xx, conexiones cortadas) solo se reintentan en
+     * operaciones idempotentes, con backoff exponencial con jitter y un presupuesto
+     * total de tiempo.
+     * Si el circuit breaker del endpoint esta abierto, falla de inmediato con
+     * {@link CircuitOpenException} sin esperar al timeout de la peticion.
+     * Cada llamada se mide en el timer {@code redhat.api.requests} por operacion,
+     * endpoint y codigo de estado, y se traza en un span de cliente hijo del span
+     * de la herramienta MCP en curso (reintentos y coberturas incluidos).
+     * Bloquea el hilo que llama (limitador, backoff, respuesta), por lo que se
+     * rechaza si se invoca desde el event loop de Vert.x.
+     * Antes de nada se comprueba la cuota de la conexion MCP en curso, a la que se
+     * imputan la latencia y los bytes recibidos.
+     * El cuerpo se devuelve en bytes, tal como llega (comprimido si la API lo envia
+     * asi, ver {@link ContentEncoding}), para que Jackson lo lea sin pasar por un
+     * String intermedio.
+     */
+    public HttpResponse<byte[]> send(ApiOperation operation, HttpRequest request) throws IOException, InterruptedException {
+        // El limitador y el backoff entre reintentos duermen el hilo: nunca en el event loop
+        if (Context.isOnEventLoopThread()) {
+            throw new BlockingOperationNotAllowedException(
+                    "Llamada a la API de Red Hat (" + operation.configKey() + ") desde el event loop; use un hilo worker");
+        }
+        quotas.beforeRequest();
+        Timer.Sample sample = Timer.start(registry);
+        long bytes = 0;
+        inFlight.incrementAndGet();
+        String status = "error";
+        Span span = tracer.spanBuilder(request.method() + " " + operation.configKey())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("http.request.method", request.method())
+                .setAttribute("server.address", request.uri().getHost())
+                .setAttribute("url.path", request.uri().getPath())
+                .setAttribute("redhat.api.operation", operation.configKey())
+                .startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            HttpResponse<byte[]> response = sendThroughBreaker(operation, request);
+            status = String.valueOf(response.statusCode());
+            bytes = response.body() != null ? response.body().length : 0;
+            span.setAttribute("http.response.status_code", response.statusCode());
+            if (response.statusCode() >= 500) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            status = statusOf(e);
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+            inFlight.decrementAndGet();
+            long elapsedNanos = sample.stop(Timer.builder("redhat.api.requests")
+                    .description("Llamadas a las APIs de Red Hat")
+                    .publishPercentileHistogram()
+                    .tag("operation", operation.configKey())
+                    .tag("endpoint", operation.getEndpoint().name().toLowerCase())
+                    .tag("status", status)
+                    .register(registry));
+            quotas.afterRequest(elapsedNanos, bytes);
+        }
+    }
+
+    private static String statusOf(Exception e) {
+        if (e instanceof CircuitOpenException) {
+            return "circuit_open";
+        }
+        if (e instanceof DeadlineExceededException) {
+            return "deadline";
+        }
+        return e instanceof IOException ? "io_error" : "error";
+    }
+
+    private HttpResponse<byte[]> sendThroughBreaker(ApiOperation operation, HttpRequest request) throws IOException, InterruptedException {
+        CircuitBreaker breaker = circuitBreakers.get(operation.getEndpoint());
+        breaker.acquirePermission();
+        boolean recorded = false;
+        try {
+            HttpResponse<byte[]> response = sendWithRetries(operation, request);
+            recorded = true;
+            if (TRANSIENT_STATUSES.contains(response.statusCode())) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            return response;
+        } catch (IOException e) {
+            recorded = true;
+            breaker.onFailure();
+            throw e;
+        } finally {
+            if (!recorded) {
+                breaker.releasePermission();
+            }
+        }
+    }
+
+    public CircuitBreaker.State circuitState(ApiEndpoint endpoint) {
+        return circuitBreakers.get(endpoint).getState();
+    }
+
+    private HttpResponse<byte[]> sendWithRetries(ApiOperation operation, HttpRequest request) throws IOException, InterruptedException {
+        RedHatApiConfig.Retry retry = config.retry();
+        boolean retryable = retry.enabled() && operation.isIdempotent();
+        Optional<Deadline> deadline = Deadline.current();
+        long budgetEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(retry.budgetSeconds());
+        if (deadline.isPresent() && deadline.get().expiresAtNanos() - budgetEnd < 0) {
+            budgetEnd = deadline.get().expiresAtNanos();
+        }
+        int attempt = 1;
+        int throttled = 0;
+
+        boolean rateLimited = operation.getEndpoint().isRateLimited();
+
+        while (true) {
+            if (deadline.isPresent() && deadline.get().isExpired()) {
+                throw new DeadlineExceededException(operation);
+            }
+            if (rateLimited) {
+                acquirePermit(operation, deadline);
+            }
+            HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true)
+                    .timeout(timeoutFor(operation, deadline));
+            if (config.compression().enabled()) {
+                builder.setHeader(ContentEncoding.ACCEPT_ENCODING, ContentEncoding.ACCEPTED);
+            }
+            HttpRequest attemptRequest = builder.build();
+
+            HttpResponse<byte[]> response;
+            try {
+                response = sendAttempt(operation, attemptRequest);
+            } catch (IOException e) {
+                if (!retryable || !backoff(operation, attempt++, budgetEnd, e.toString())) {
+                    throw e;
+                }
+                continue;
+            }
+
+            if (rateLimited && response.statusCode() == TOO_MANY_REQUESTS) {
+                rateLimiter.onThrottled(retryAfter(response).orElse(null));
+                if (++throttled > config.rateLimit().maxThrottleRetries()) {
+                    return response;
+                }
+                continue;
+            }
+
+            // Solo las respuestas correctas suben el ritmo; un 5xx no indica que la API tenga margen
+            if (rateLimited && response.statusCode() < 400) {
+                rateLimiter.onSuccess();
+            }
+            if (retryable && TRANSIENT_STATUSES.contains(response.statusCode())
+                    && backoff(operation, attempt++, budgetEnd, "HTTP " + response.statusCode())) {
+                continue;
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Espera turno en el limitador, como mucho hasta el plazo de la invocacion. Si la espera
+     * cabria en el maximo del limitador pero no en el plazo, lo que falla es el plazo.
+     */
+    private void acquirePermit(ApiOperation operation, Optional<Deadline> deadline) throws InterruptedException {
+        try {
+            rateLimiter.acquire(deadline.map(Deadline::remaining).orElse(MAX_DURATION));
+        } catch (RateLimitExceededException e) {
+            if (deadline.isPresent()
+                    && e.getRetryIn().compareTo(Duration.ofSeconds(config.rateLimit().maxWaitSeconds())) <= 0) {
+                throw new DeadlineExceededException(operation);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Envia un intento. En lecturas con hedging activo, si la respuesta no llega
+     * dentro del percentil de latencia configurado se lanza una segunda copia
+     * (si hay cupo de coberturas y permiso libre en el limitador) y gana la primera
+     * respuesta correcta.
+     */
+    private HttpResponse<byte[]> sendAttempt(ApiOperation operation, HttpRequest request) throws IOException, InterruptedException {
+        LatencyTracker tracker = latencies.get(operation);
+        if (!config.hedging().enabled() || tracker == null) {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> primary = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        try {
+            HttpResponse<byte[]> response = primary.get(hedgeDelayNanos(tracker), TimeUnit.NANOSECONDS);
+            tracker.record(System.nanoTime() - start);
+            return response;
+        } catch (TimeoutException slow) {
+            if (!hedgesInFlight.tryAcquire()) {
+                return await(primary, tracker, start);
+            }
+            if (operation.getEndpoint().isRateLimited() && !rateLimiter.tryAcquire()) {
+                hedgesInFlight.release();
+                return await(primary, tracker, start);
+            }
+
+            hedgeCounters.get(operation).increment();
+            Log.debugf("Hedging %s after %d ms", operation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            CompletableFuture<HttpResponse<byte[]>> hedge = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            hedge.whenComplete((r, e) -> hedgesInFlight.release());
+
+            CompletableFuture<HttpResponse<byte[]>> winner = new CompletableFuture<>();
+            AtomicInteger pending = new AtomicInteger(2);
+            BiConsumer<HttpResponse<byte[]>, Throwable> firstSuccess = (r, e) -> {
+                if (e == null) {
+                    winner.complete(r);
+                } else if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+            };
+            primary.whenComplete(firstSuccess);
+            hedge.whenComplete(firstSuccess);
+            try {
+                return await(winner, tracker, start);
+            } finally {
+                primary.cancel(true);
+                hedge.cancel(true);
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private long hedgeDelayNanos(LatencyTracker tracker) {
+        RedHatApiConfig.Hedging hedging = config.hedging();
+        long delay = tracker.count() >= hedging.minSamples()
+                ? tracker.percentile(hedging.percentile())
+                : TimeUnit.MILLISECONDS.toNanos(hedging.defaultDelayMillis());
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(hedging.minDelayMillis()), delay);
+    }
+
+    private static HttpResponse<byte[]> await(CompletableFuture<HttpResponse<byte[]>> future, LatencyTracker tracker,
+                                              long start) throws IOException, InterruptedException {
+        try {
+            HttpResponse<byte[]> response = future.get();
+            tracker.record(System.nanoTime() - start);
+            return response;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException re) {
+            throw re;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * Timeout de un intento: el configurado para la operacion (o el general),
+     * acotado por el tiempo restante del plazo de la invocacion.
+     */
+    private Duration timeoutFor(ApiOperation operation, Optional<Deadline> deadline) {
+        RedHatApiConfig.Timeouts timeouts = config.timeouts();
+        Duration timeout = Duration.ofSeconds(
+                timeouts.operations().getOrDefault(operation.configKey(), timeouts.requestSeconds()));
+        if (deadline.isPresent()) {
+            Duration remaining = deadline.get().remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new DeadlineExceededException(operation);
+            }
+            if (remaining.compareTo(timeout) < 0) {
+                timeout = remaining;
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Espera antes del siguiente intento (full jitter).
+     * Devuelve false si se agotaron los intentos o el presupuesto de tiempo.
+     */
+    private boolean backoff(ApiOperation operation, int attempt, long budgetEnd, String cause) throws InterruptedException {
+        RedHatApiConfig.Retry retry = config.retry();
+        if (attempt >= retry.maxAttempts()) {
+            return false;
+        }
+
+        long ceiling = Math.min(retry.maxBackoffMillis(), retry.initialBackoffMillis() << Math.min(attempt - 1, 20));
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMillis) >= budgetEnd) {
+            return false;
+        }
+
+        Log.debugf("Retrying %s after %s (attempt %d, backoff %d ms)", operation, cause, attempt + 1, sleepMillis);
+        Thread.sleep(sleepMillis);
+        return true;
+    }
+
+    /**
+     * Cuerpo de la respuesta como texto, para mensajes de error.
+     */
+    static String bodyText(HttpResponse<byte[]> response) {
+        try {
+            return new String(ContentEncoding.decode(response), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "(cuerpo ilegible: " + e.getMessage() + ")";
+        }
+    }
+
+    /**
+     * Interpreta la cabecera Retry-After (segundos o fecha HTTP).
+     */
+    static Optional<Duration> retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue(RETRY_AFTER).flatMap(value -> {
+            try {
+                return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+            } catch (NumberFormatException e) {
+                try {
+                    Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                    Duration wait = Duration.between(Instant.now(), at);
+                    return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+                } catch (DateTimeParseException ignored) {
+                    return Optional.empty();
+                }
+            }
+        });
+    }
+}
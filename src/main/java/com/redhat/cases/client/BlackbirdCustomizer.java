@@ -0,0 +1,27 @@
+package com.redhat.cases.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.runtime.ImageMode;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Registra Blackbird en el ObjectMapper de Quarkus: los getters, setters y constructores de los
+ * DTO se invocan mediante lambdas generadas en lugar de por reflexion.
+ *
+ * Blackbird genera clases en tiempo de ejecucion, algo que una imagen nativa no admite;
+ * en modo nativo se mantiene el acceso por reflexion.
+ */
+@Singleton
+public class BlackbirdCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        if (!ImageMode.current().isNativeImage()) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.redhat.cases.config.RedHatApiConfig;
+
+import io.quarkus.logging.Log;
+
+/**
+ * Circuit breaker de un endpoint de Red Hat.
+ *
+ * CLOSED: las peticiones pasan; tras N fallos consecutivos pasa a OPEN.
+ * OPEN: las peticiones fallan de inmediato con {@link CircuitOpenException}.
+ * HALF_OPEN: vencido el tiempo de apertura, deja pasar un numero limitado de sondas;
+ * si una sonda tiene exito se cierra, si falla vuelve a OPEN.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ApiEndpoint endpoint;
+    private final RedHatApiConfig.CircuitBreaker config;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private long openedAtNanos;
+
+    public CircuitBreaker(ApiEndpoint endpoint, RedHatApiConfig.CircuitBreaker config) {
+        this.endpoint = endpoint;
+        this.config = config;
+    }
+
+    /**
+     * Comprueba si la peticion puede salir; si no, lanza CircuitOpenException.
+     */
+    public synchronized void acquirePermission() {
+        if (!config.enabled()) {
+            return;
+        }
+        if (state == State.OPEN) {
+            long remaining = openedAtNanos + TimeUnit.SECONDS.toNanos(config.openSeconds()) - System.nanoTime();
+            if (remaining > 0) {
+                throw new CircuitOpenException(endpoint, Duration.ofNanos(remaining));
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            Log.infof("Circuit breaker %s half-open, probing", endpoint);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= config.halfOpenProbes()) {
+                throw new CircuitOpenException(endpoint, Duration.ofSeconds(1));
+            }
+            probesInFlight++;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            Log.infof("Circuit breaker %s closed", endpoint);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (!config.enabled()) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= config.failureThreshold()) {
+            if (state != State.OPEN) {
+                Log.warnf("Circuit breaker %s opened after %d consecutive failures", endpoint, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            probesInFlight = 0;
+        }
+    }
+
+    /**
+     * Libera una sonda sin registrar resultado (p. ej. interrupcion o limite local).
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public ApiEndpoint getEndpoint() {
+        return endpoint;
+    }
+}
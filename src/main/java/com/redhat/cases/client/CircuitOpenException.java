@@ -0,0 +1,27 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+
+/**
+ * Se lanza sin contactar con la API cuando el circuit breaker del endpoint esta abierto.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final ApiEndpoint endpoint;
+    private final Duration retryIn;
+
+    public CircuitOpenException(ApiEndpoint endpoint, Duration retryIn) {
+        super("API de Red Hat no disponible (" + endpoint.getHost() + "), reintente en "
+                + Math.max(1, retryIn.toSeconds()) + " segundos");
+        this.endpoint = endpoint;
+        this.retryIn = retryIn;
+    }
+
+    public ApiEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Duration getRetryIn() {
+        return retryIn;
+    }
+}
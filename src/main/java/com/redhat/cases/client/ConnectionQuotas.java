@@ -0,0 +1,235 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.redhat.cases.config.RedHatApiConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Contabilidad y cuotas por conexion MCP.
+ *
+ * Cada conexion tiene dos token buckets: uno para llamadas a herramientas y otro para
+ * peticiones a las APIs de Red Hat. La conexion en curso se asocia al hilo durante la
+ * llamada a la herramienta ({@link #run}) y {@link ApiRequestExecutor} la consulta en
+ * cada peticion. Al superar la cuota se rechaza de inmediato con
+ * {@link QuotaExceededException}, sin ocupar turno en el limitador compartido, para que
+ * un cliente muy activo no retrase al resto.
+ */
+@ApplicationScoped
+public class ConnectionQuotas {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final RedHatApiConfig.ConnectionQuota config;
+    private final Map<String, Usage> connections = new ConcurrentHashMap<>();
+    private final ThreadLocal<Usage> current = new ThreadLocal<>();
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+    private final Counter toolRejections;
+    private final Counter apiRejections;
+
+    @Inject
+    public ConnectionQuotas(RedHatApiConfig config, MeterRegistry registry) {
+        this.config = config.connectionQuota();
+        Gauge.builder("mcp.connections.tracked", connections, Map::size)
+                .description("Conexiones MCP con contabilidad activa")
+                .register(registry);
+        this.toolRejections = Counter.builder("mcp.connection.quota.rejections")
+                .description("Llamadas rechazadas por cuota de conexion")
+                .tag("kind", "tool")
+                .register(registry);
+        this.apiRejections = Counter.builder("mcp.connection.quota.rejections")
+                .description("Llamadas rechazadas por cuota de conexion")
+                .tag("kind", "api")
+                .register(registry);
+    }
+
+    /**
+     * Uso acumulado de una conexion.
+     */
+    public final class Usage {
+
+        private final String connectionId;
+        private final Bucket toolCallsBucket;
+        private final Bucket apiRequestsBucket;
+        private final LongAdder toolCalls = new LongAdder();
+        private final LongAdder toolNanos = new LongAdder();
+        private final LongAdder apiRequests = new LongAdder();
+        private final LongAdder apiNanos = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private volatile long lastActiveNanos = System.nanoTime();
+
+        private Usage(String connectionId) {
+            this.connectionId = connectionId;
+            this.toolCallsBucket = new Bucket(config.toolCallsPerMinute(), config.toolCallsBurst());
+            this.apiRequestsBucket = new Bucket(config.apiRequestsPerMinute(), config.apiRequestsBurst());
+        }
+
+        public String connectionId() {
+            return connectionId;
+        }
+
+        public long toolCalls() {
+            return toolCalls.sum();
+        }
+
+        public Duration toolTime() {
+            return Duration.ofNanos(toolNanos.sum());
+        }
+
+        public long apiRequests() {
+            return apiRequests.sum();
+        }
+
+        public Duration apiTime() {
+            return Duration.ofNanos(apiNanos.sum());
+        }
+
+        public long bytesReceived() {
+            return bytesReceived.sum();
+        }
+
+        public long rejected() {
+            return rejected.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("connection=%s toolCalls=%d toolTime=%dms apiRequests=%d apiTime=%dms bytes=%d rejected=%d",
+                    connectionId, toolCalls(), toolTime().toMillis(), apiRequests(), apiTime().toMillis(),
+                    bytesReceived(), rejected());
+        }
+    }
+
+    /**
+     * Empieza a contabilizar una conexion (al recibir su notificacion de inicializacion).
+     */
+    public Usage register(String connectionId) {
+        return connections.computeIfAbsent(connectionId, Usage::new);
+    }
+
+    public Optional<Usage> usage(String connectionId) {
+        return Optional.ofNullable(connections.get(connectionId));
+    }
+
+    /**
+     * Ejecuta una llamada a herramienta en nombre de la conexion: comprueba su cuota de
+     * llamadas, la asocia al hilo para las peticiones a la API y contabiliza la latencia.
+     */
+    public <T> T run(String connectionId, Supplier<T> action) {
+        sweepIdle();
+        Usage usage = register(connectionId);
+        usage.lastActiveNanos = System.nanoTime();
+        if (config.enabled()) {
+            long waitNanos = usage.toolCallsBucket.tryTake();
+            if (waitNanos > 0) {
+                usage.rejected.increment();
+                toolRejections.increment();
+                throw new QuotaExceededException(QuotaExceededException.Kind.TOOL_CALLS, Duration.ofNanos(waitNanos));
+            }
+        }
+
+        Usage outer = current.get();
+        current.set(usage);
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            usage.toolCalls.increment();
+            usage.toolNanos.add(System.nanoTime() - start);
+            if (outer != null) {
+                current.set(outer);
+            } else {
+                current.remove();
+            }
+        }
+    }
+
+    /**
+     * Comprueba la cuota de peticiones a la API de la conexion en curso (si la hay).
+     */
+    void beforeRequest() {
+        Usage usage = current.get();
+        if (usage == null || !config.enabled()) {
+            return;
+        }
+        long waitNanos = usage.apiRequestsBucket.tryTake();
+        if (waitNanos > 0) {
+            usage.rejected.increment();
+            apiRejections.increment();
+            throw new QuotaExceededException(QuotaExceededException.Kind.API_REQUESTS, Duration.ofNanos(waitNanos));
+        }
+    }
+
+    /**
+     * Contabiliza una peticion a la API terminada para la conexion en curso (si la hay).
+     */
+    void afterRequest(long elapsedNanos, long bytes) {
+        Usage usage = current.get();
+        if (usage == null) {
+            return;
+        }
+        usage.apiRequests.increment();
+        usage.apiNanos.add(elapsedNanos);
+        usage.bytesReceived.add(bytes);
+    }
+
+    private void sweepIdle() {
+        long now = System.nanoTime();
+        long last = lastSweepNanos.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        long idleNanos = TimeUnit.MINUTES.toNanos(config.idleMinutes());
+        connections.values().removeIf(usage -> {
+            if (now - usage.lastActiveNanos < idleNanos) {
+                return false;
+            }
+            Log.infof("MCP connection idle, usage discarded: %s", usage);
+            return true;
+        });
+    }
+
+    /**
+     * Token bucket por conexion. Devuelve 0 si hay permiso o los nanosegundos que faltan.
+     */
+    private static final class Bucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(int permitsPerMinute, int burst) {
+            this.permitsPerNano = permitsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized long tryTake() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / permitsPerNano);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.redhat.cases.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Respuestas comprimidas de la API (gzip o deflate, segun Content-Encoding).
+ *
+ * El cuerpo se guarda tal como llega, comprimido, y se descomprime en streaming mientras
+ * Jackson lo lee: el JSON descomprimido nunca esta entero en memoria.
+ */
+final class ContentEncoding {
+
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+    static final String ACCEPTED = "gzip, deflate";
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] EMPTY = new byte[0];
+
+    private ContentEncoding() {
+    }
+
+    /**
+     * Indica si el cuerpo viene comprimido.
+     */
+    static boolean isEncoded(HttpResponse<byte[]> response) {
+        return !encoding(response).isEmpty() && response.body() != null && response.body().length > 0;
+    }
+
+    /**
+     * Flujo con el cuerpo descomprimido.
+     */
+    static InputStream open(HttpResponse<byte[]> response) throws IOException {
+        byte[] body = response.body() != null ? response.body() : EMPTY;
+        InputStream in = new ByteArrayInputStream(body);
+        if (body.length == 0) {
+            return in;
+        }
+        String encoding = encoding(response);
+        return switch (encoding) {
+            case "" -> in;
+            case "gzip", "x-gzip" -> new GZIPInputStream(in, BUFFER_SIZE);
+            case "deflate" -> inflate(in, body);
+            default -> throw new IOException("Content-Encoding no soportado: " + encoding);
+        };
+    }
+
+    /**
+     * Cuerpo descomprimido completo, para respuestas pequenas o mensajes de error.
+     */
+    static byte[] decode(HttpResponse<byte[]> response) throws IOException {
+        if (!isEncoded(response)) {
+            return response.body() != null ? response.body() : EMPTY;
+        }
+        try (InputStream in = open(response)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String encoding(HttpResponse<byte[]> response) {
+        String encoding = response.headers().firstValue(CONTENT_ENCODING).orElse("").trim().toLowerCase(Locale.ROOT);
+        return encoding.equals("identity") ? "" : encoding;
+    }
+
+    // "deflate" es zlib (RFC 9110), aunque algunos servidores lo envian sin la cabecera zlib
+    private static InputStream inflate(InputStream in, byte[] body) {
+        boolean zlib = body.length >= 2 && (body[0] & 0x0f) == 8 && ((body[0] & 0xff) << 8 | (body[1] & 0xff)) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                inflater.end();
+            }
+        };
+    }
+}
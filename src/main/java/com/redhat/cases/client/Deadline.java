@@ -0,0 +1,63 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Plazo total de una invocacion (p. ej. una llamada a una herramienta MCP).
+ *
+ * Se asocia al hilo actual y lo consulta {@link ApiRequestExecutor} para acotar el
+ * timeout de cada peticion, los reintentos y la espera en el limitador, de modo que
+ * varias llamadas encadenadas (crear caso + obtener caso) no superen el plazo.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Ejecuta la accion con un plazo. Si ya hay uno activo mas corto, se conserva.
+     */
+    public static <T> T run(Duration budget, Supplier<T> action) {
+        Deadline outer = CURRENT.get();
+        Deadline deadline = new Deadline(System.nanoTime() + budget.toNanos());
+        if (outer != null && outer.expiresAtNanos < deadline.expiresAtNanos) {
+            deadline = outer;
+        }
+        CURRENT.set(deadline);
+        try {
+            return action.get();
+        } finally {
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Tiempo restante hasta el plazo (negativo si ya vencio).
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public long expiresAtNanos() {
+        return expiresAtNanos;
+    }
+}
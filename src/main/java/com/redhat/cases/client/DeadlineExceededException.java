@@ -0,0 +1,11 @@
+package com.redhat.cases.client;
+
+/**
+ * Se lanza cuando una invocacion agota su plazo total antes de completar una peticion.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(ApiOperation operation) {
+        super("Tiempo maximo agotado antes de completar " + operation);
+    }
+}
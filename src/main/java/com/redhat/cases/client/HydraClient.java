@@ -1,20 +1,18 @@
 package com.redhat.cases.client;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redhat.cases.config.RedHatApiConfig;
 import com.redhat.cases.dto.ProductDto;
 import com.redhat.cases.dto.VersionDto;
 
 import static com.redhat.cases.client.RedHatApiConstants.BEARER_PREFIX;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_PRODUCTS;
+import static com.redhat.cases.client.RedHatApiConstants.PATH_PRODUCT_VERSIONS;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -29,23 +27,18 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class HydraClient {
 
-    private static final String HYDRA_BASE_URL = "https://access.redhat.com/hydra/rest";
-    private static final String PATH_PRODUCTS = "/products";
-    private static final String PATH_PRODUCT_VERSIONS = "/products/%s/versions";
-
     private final RedHatApiConfig config;
     private final RedHatAuthClient authClient;
-    private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
+    private final ApiJson json;
+    private final ApiRequestExecutor executor;
 
     @Inject
-    public HydraClient(RedHatApiConfig config, RedHatAuthClient authClient, ObjectMapper objectMapper) {
+    public HydraClient(RedHatApiConfig config, RedHatAuthClient authClient, ApiJson json,
+                       ApiRequestExecutor executor) {
         this.config = config;
         this.authClient = authClient;
-        this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(config.timeouts().connectSeconds()))
-                .build();
+        this.json = json;
+        this.executor = executor;
     }
 
     /**
@@ -56,19 +49,18 @@ public class HydraClient {
             String token = authClient.getAccessToken();
 
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(HYDRA_BASE_URL + PATH_PRODUCTS))
+                    .uri(URI.create(config.hydra().baseUrl() + PATH_PRODUCTS))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_PRODUCTS, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), new TypeReference<List<ProductDto>>() {});
+                return ApiJson.read(json.products, response);
             } else {
-                throw new RuntimeException("Error obteniendo productos (HTTP " + response.statusCode() + "): " + response.body());
+                throw new RuntimeException("Error obteniendo productos (HTTP " + response.statusCode() + "): " + ApiRequestExecutor.bodyText(response));
             }
         } catch (RuntimeException e) {
             throw e;
@@ -86,21 +78,20 @@ public class HydraClient {
             String encodedProduct = java.net.URLEncoder.encode(productCode, "UTF-8");
 
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(HYDRA_BASE_URL + String.format(PATH_PRODUCT_VERSIONS, encodedProduct)))
+                    .uri(URI.create(config.hydra().baseUrl() + String.format(PATH_PRODUCT_VERSIONS, encodedProduct)))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_PRODUCT_VERSIONS, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), new TypeReference<List<VersionDto>>() {});
+                return ApiJson.read(json.versions, response);
             } else if (response.statusCode() == Response.Status.NOT_FOUND.getStatusCode()) {
                 return Collections.emptyList();
             } else {
-                throw new RuntimeException("Error obteniendo versiones (HTTP " + response.statusCode() + "): " + response.body());
+                throw new RuntimeException("Error obteniendo versiones (HTTP " + response.statusCode() + "): " + ApiRequestExecutor.bodyText(response));
             }
         } catch (RuntimeException e) {
             throw e;
@@ -0,0 +1,46 @@
+package com.redhat.cases.client;
+
+import java.util.Arrays;
+
+/**
+ * Ventana circular con las ultimas latencias de una operacion.
+ * Permite estimar percentiles recientes para decidir cuando lanzar una peticion de cobertura.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    LatencyTracker(int size) {
+        this.samples = new long[size];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Percentil (0-100) de las latencias registradas, en nanosegundos; -1 si no hay muestras.
+     */
+    long percentile(double percentile) {
+        long[] copy;
+        synchronized (this) {
+            if (count == 0) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile / 100.0 * copy.length) - 1;
+        return copy[Math.max(0, Math.min(copy.length - 1, index))];
+    }
+}
@@ -0,0 +1,41 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+
+/**
+ * Se lanza cuando una conexion MCP supera su cuota de llamadas o de peticiones a la API.
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    /**
+     * Cuota superada.
+     */
+    public enum Kind {
+        TOOL_CALLS("llamadas"),
+        API_REQUESTS("peticiones a la API");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Kind kind;
+    private final Duration retryIn;
+
+    public QuotaExceededException(Kind kind, Duration retryIn) {
+        super("Cuota de " + kind.label + " de esta conexion agotada, reintente en "
+                + Math.max(1, retryIn.toSeconds()) + " segundos");
+        this.kind = kind;
+        this.retryIn = retryIn;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Duration getRetryIn() {
+        return retryIn;
+    }
+}
@@ -0,0 +1,22 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+
+/**
+ * Se lanza sin contactar con la API cuando el turno en el limitador de peticiones
+ * compartido tardaria mas que la espera maxima configurada.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryIn;
+
+    public RateLimitExceededException(Duration retryIn) {
+        super("Limite de peticiones a la API de Red Hat alcanzado, reintente en "
+                + Math.max(1, retryIn.toSeconds()) + " segundos");
+        this.retryIn = retryIn;
+    }
+
+    public Duration getRetryIn() {
+        return retryIn;
+    }
+}
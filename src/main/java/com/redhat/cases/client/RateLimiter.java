@@ -0,0 +1,207 @@
+package com.redhat.cases.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.redhat.cases.config.RedHatApiConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Limitador de peticiones compartido por los clientes de la API de casos y Hydra.
+ *
+ * Token bucket con reserva de turnos: cada peticion reserva el siguiente hueco libre
+ * bajo un lock justo, por lo que las peticiones de todas las conexiones MCP se atienden
+ * en orden de llegada. La tasa se adapta (AIMD): cada HTTP 429 la reduce a la mitad y
+ * respeta el Retry-After; cada respuesta correcta la recupera poco a poco hasta el maximo.
+ */
+@ApplicationScoped
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RedHatApiConfig.RateLimit config;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long nextFreeNanos;
+
+    @Inject
+    public RateLimiter(RedHatApiConfig config, MeterRegistry registry) {
+        this.config = config.rateLimit();
+        this.permitsPerSecond = this.config.permitsPerSecond();
+        this.storedPermits = this.config.burst();
+        this.nextFreeNanos = System.nanoTime();
+
+        Gauge.builder("redhat.api.ratelimit.permits", this, RateLimiter::availablePermits)
+                .description("Permisos disponibles en el limitador de peticiones")
+                .register(registry);
+        Gauge.builder("redhat.api.ratelimit.queue", this, RateLimiter::queueDepth)
+                .description("Peticiones esperando turno en el limitador")
+                .register(registry);
+        Gauge.builder("redhat.api.ratelimit.rate", this, RateLimiter::currentRate)
+                .description("Tasa actual permitida (peticiones por segundo)")
+                .register(registry);
+    }
+
+    /**
+     * Espera hasta que haya un permiso disponible.
+     *
+     * @throws RateLimitExceededException si la espera superaria el maximo configurado
+     */
+    public void acquire() throws InterruptedException {
+        acquire(Duration.ofSeconds(config.maxWaitSeconds()));
+    }
+
+    /**
+     * Espera hasta que haya un permiso disponible, como maximo {@code maxWait}
+     * (acotado a su vez por el maximo configurado). Si la espera no cabe no se
+     * reserva turno.
+     *
+     * @throws RateLimitExceededException con el tiempo que faltaria para el turno
+     */
+    public void acquire(Duration maxWait) throws InterruptedException {
+        if (!config.enabled()) {
+            return;
+        }
+
+        long maxWaitNanos = Math.min(maxWait.toNanos(), TimeUnit.SECONDS.toNanos(config.maxWaitSeconds()));
+        long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        queued.incrementAndGet();
+        try {
+            long deadline = System.nanoTime() + waitNanos;
+            long remaining = waitNanos;
+            while (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Toma un permiso solo si esta disponible sin esperar.
+     * Lo usan las peticiones opcionales (coberturas) para no competir con las normales.
+     */
+    public boolean tryAcquire() {
+        if (!config.enabled()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            resync(now);
+            if (nextFreeNanos > now || storedPermits < 1) {
+                return false;
+            }
+            storedPermits -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra una respuesta correcta: recupera la tasa de forma aditiva.
+     */
+    public void onSuccess() {
+        if (!config.enabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (permitsPerSecond < config.permitsPerSecond()) {
+                permitsPerSecond = Math.min(config.permitsPerSecond(),
+                        permitsPerSecond + config.recoveryStep());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra un HTTP 429: reduce la tasa a la mitad y bloquea nuevos turnos
+     * hasta que venza el Retry-After indicado por la API.
+     */
+    public void onThrottled(Duration retryAfter) {
+        if (!config.enabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            permitsPerSecond = Math.max(config.minPermitsPerSecond(), permitsPerSecond / 2);
+            storedPermits = 0;
+            long pause = retryAfter != null ? retryAfter.toNanos() : intervalNanos();
+            nextFreeNanos = Math.max(nextFreeNanos, now + pause);
+            Log.warnf("Red Hat API throttled (HTTP 429): rate reduced to %.2f req/s, paused %d ms",
+                    permitsPerSecond, TimeUnit.NANOSECONDS.toMillis(pause));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double availablePermits() {
+        lock.lock();
+        try {
+            resync(System.nanoTime());
+            return storedPermits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    public double currentRate() {
+        return permitsPerSecond;
+    }
+
+    private long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            resync(now);
+
+            long waitNanos = Math.max(0, nextFreeNanos - now);
+            if (waitNanos > maxWaitNanos) {
+                throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+            }
+
+            double fromStored = Math.min(1, storedPermits);
+            storedPermits -= fromStored;
+            nextFreeNanos += (long) ((1 - fromStored) * intervalNanos());
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void resync(long now) {
+        if (now > nextFreeNanos) {
+            double refill = (double) (now - nextFreeNanos) / intervalNanos();
+            storedPermits = Math.min(config.burst(), storedPermits + refill);
+            nextFreeNanos = now;
+        }
+    }
+
+    private long intervalNanos() {
+        return (long) (NANOS_PER_SECOND / permitsPerSecond);
+    }
+}
@@ -18,11 +18,16 @@ public final class RedHatApiConstants {
     public static final String PATH_CASES = "/v1/cases";
     public static final String PATH_CASE_BY_NUMBER = "/v1/cases/%s";
     public static final String PATH_CASE_COMMENTS = "/v1/cases/%s/comments";
+    public static final String PARAM_START_DATE = "startDate";
 
     // ========== Account API Paths ==========
     public static final String PATH_CURRENT_ACCOUNT = "/v1/accounts/current";
     public static final String PATH_ENTITLEMENTS = "/v1/entitlements";
 
+    // ========== Hydra API Paths ==========
+    public static final String PATH_PRODUCTS = "/products";
+    public static final String PATH_PRODUCT_VERSIONS = "/products/%s/versions";
+
     // ========== OAuth ==========
     public static final String GRANT_TYPE_REFRESH = "refresh_token";
     public static final String BEARER_PREFIX = "Bearer ";
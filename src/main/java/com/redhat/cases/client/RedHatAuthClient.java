@@ -1,10 +1,8 @@
 package com.redhat.cases.client;
 
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 
@@ -12,6 +10,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redhat.cases.config.RedHatApiConfig;
 
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.HttpHeaders;
@@ -27,25 +27,24 @@ public class RedHatAuthClient {
 
     private final RedHatApiConfig config;
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
+    private final ApiRequestExecutor executor;
 
     private String cachedAccessToken;
     private Instant tokenExpiry;
     private Boolean isDirectJwt = null;
 
     @Inject
-    public RedHatAuthClient(RedHatApiConfig config, ObjectMapper objectMapper) {
+    public RedHatAuthClient(RedHatApiConfig config, ObjectMapper objectMapper, ApiRequestExecutor executor) {
         this.config = config;
         this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(config.timeouts().connectSeconds()))
-                .build();
+        this.executor = executor;
     }
 
     /**
      * Obtiene un token de acceso valido.
      * Si el token cacheado esta expirado o no existe, obtiene uno nuevo.
      */
+    @WithSpan("RedHatAuthClient.getAccessToken")
     public String getAccessToken() {
         if (cachedAccessToken != null && tokenExpiry != null && Instant.now().isBefore(tokenExpiry)) {
             return cachedAccessToken;
@@ -134,20 +133,21 @@ public class RedHatAuthClient {
                     .uri(URI.create(config.sso().tokenUrl()))
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
                     .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.SSO_TOKEN, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                JsonNode json = objectMapper.readTree(response.body());
+                JsonNode json = objectMapper.readTree(ContentEncoding.decode(response));
                 cachedAccessToken = json.get("access_token").asText();
                 int expiresIn = json.get("expires_in").asInt();
                 tokenExpiry = Instant.now().plusSeconds(expiresIn - config.sso().tokenRenewalBufferSeconds());
                 return cachedAccessToken;
             } else {
-                throw new RuntimeException("Error obteniendo token de Red Hat SSO: " + response.statusCode() + " - " + response.body());
+                throw new RuntimeException("Error obteniendo token de Red Hat SSO: " + response.statusCode() + " - " + ApiRequestExecutor.bodyText(response));
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error en autenticacion con Red Hat: " + e.getMessage(), e);
         }
@@ -1,14 +1,13 @@
 package com.redhat.cases.client;
 
 import java.net.URI;
-import java.net.http.HttpClient;
+import java.net.URLEncoder;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.redhat.cases.config.RedHatApiConfig;
 import com.redhat.cases.dto.*;
 
@@ -28,17 +27,16 @@ public class RedHatCasesClient {
 
     private final RedHatApiConfig config;
     private final RedHatAuthClient authClient;
-    private final ObjectMapper objectMapper;
-    private final HttpClient httpClient;
+    private final ApiJson json;
+    private final ApiRequestExecutor executor;
 
     @Inject
-    public RedHatCasesClient(RedHatApiConfig config, RedHatAuthClient authClient, ObjectMapper objectMapper) {
+    public RedHatCasesClient(RedHatApiConfig config, RedHatAuthClient authClient, ApiJson json,
+                             ApiRequestExecutor executor) {
         this.config = config;
         this.authClient = authClient;
-        this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(config.timeouts().connectSeconds()))
-                .build();
+        this.json = json;
+        this.executor = executor;
     }
 
     /**
@@ -47,23 +45,24 @@ public class RedHatCasesClient {
     public CaseListResponseDto listCases(CaseFilterRequestDto filter) {
         try {
             String token = authClient.getAccessToken();
-            String jsonBody = objectMapper.writeValueAsString(filter);
+            byte[] jsonBody = json.caseFilter.writeValueAsBytes(filter);
 
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(config.cases().baseUrl() + PATH_CASES_FILTER))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.LIST_CASES, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), CaseListResponseDto.class);
+                return ApiJson.read(json.caseList, response);
             } else {
-                throw new RuntimeException("Error listando casos: " + response.statusCode() + " - " + response.body());
+                throw new RuntimeException("Error listando casos: " + response.statusCode() + " - " + ApiRequestExecutor.bodyText(response));
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error conectando con API de Red Hat", e);
         }
@@ -80,18 +79,19 @@ public class RedHatCasesClient {
                     .uri(URI.create(config.cases().baseUrl() + String.format(PATH_CASE_BY_NUMBER, caseNumber)))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_CASE, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), CaseDetailDto.class);
+                return ApiJson.read(json.caseDetail, response);
             } else if (response.statusCode() == Response.Status.NOT_FOUND.getStatusCode()) {
                 return null;
             } else {
-                throw new RuntimeException("Error obteniendo caso: " + response.statusCode() + " - " + response.body());
+                throw new RuntimeException("Error obteniendo caso: " + response.statusCode() + " - " + ApiRequestExecutor.bodyText(response));
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error conectando con API de Red Hat", e);
         }
@@ -105,32 +105,31 @@ public class RedHatCasesClient {
     public CaseDetailDto createCase(CreateCaseRequestDto caseRequest) {
         try {
             String token = authClient.getAccessToken();
-            String jsonBody = objectMapper.writeValueAsString(caseRequest);
+            byte[] jsonBody = json.createCase.writeValueAsBytes(caseRequest);
 
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(config.cases().baseUrl() + PATH_CASES))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.CREATE_CASE, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode() ||
                 response.statusCode() == Response.Status.CREATED.getStatusCode()) {
                 // La API devuelve CaseLocation con la URI del caso creado
-                CaseLocationDto location = objectMapper.readValue(response.body(), CaseLocationDto.class);
+                CaseLocationDto location = ApiJson.read(json.caseLocation, response);
                 String caseNumber = location.extractCaseNumber();
 
                 if (caseNumber == null) {
-                    throw new RuntimeException("No se pudo extraer el número de caso de la respuesta: " + response.body());
+                    throw new RuntimeException("No se pudo extraer el número de caso de la respuesta: " + ApiRequestExecutor.bodyText(response));
                 }
 
                 // Obtener los detalles completos del caso creado
                 return getCase(caseNumber);
             } else {
-                throw new RuntimeException("Error creando caso (HTTP " + response.statusCode() + "): " + response.body());
+                throw new RuntimeException("Error creando caso (HTTP " + response.statusCode() + "): " + ApiRequestExecutor.bodyText(response));
             }
         } catch (RuntimeException e) {
             throw e;
@@ -145,29 +144,28 @@ public class RedHatCasesClient {
     public CaseDetailDto updateCase(String caseNumber, UpdateCaseRequestDto updateRequest) {
         try {
             String token = authClient.getAccessToken();
-            String jsonBody = objectMapper.writeValueAsString(updateRequest);
+            byte[] jsonBody = json.updateCase.writeValueAsBytes(updateRequest);
 
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(config.cases().baseUrl() + String.format(PATH_CASE_BY_NUMBER, caseNumber)))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                    .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.UPDATE_CASE, request);
 
             // Success: 200 with body, 200 with empty body, or 204 No Content
             if (response.statusCode() == Response.Status.OK.getStatusCode() ||
                 response.statusCode() == Response.Status.NO_CONTENT.getStatusCode()) {
-                String body = response.body();
-                if (body != null && !body.isBlank()) {
-                    return objectMapper.readValue(body, CaseDetailDto.class);
+                byte[] body = ContentEncoding.decode(response);
+                if (hasContent(body)) {
+                    return json.caseDetail.readValue(body);
                 }
                 // Empty response on success - fetch the updated case
                 return getCase(caseNumber);
             } else {
-                throw new RuntimeException("Error actualizando caso (HTTP " + response.statusCode() + "): " + response.body());
+                throw new RuntimeException("Error actualizando caso (HTTP " + response.statusCode() + "): " + ApiRequestExecutor.bodyText(response));
             }
         } catch (RuntimeException e) {
             throw e;
@@ -180,23 +178,36 @@ public class RedHatCasesClient {
      * Obtiene los comentarios de un caso.
      */
     public List<CaseCommentDto> getComments(String caseNumber) {
+        return getComments(caseNumber, null);
+    }
+
+    /**
+     * Obtiene los comentarios de un caso creados desde {@code startDate} (todos si es null).
+     */
+    public List<CaseCommentDto> getComments(String caseNumber, Instant startDate) {
         try {
             String token = authClient.getAccessToken();
 
+            String path = String.format(PATH_CASE_COMMENTS, caseNumber);
+            if (startDate != null) {
+                path += "?" + PARAM_START_DATE + "=" + URLEncoder.encode(startDate.toString(), StandardCharsets.UTF_8);
+            }
+
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(config.cases().baseUrl() + String.format(PATH_CASE_COMMENTS, caseNumber)))
+                    .uri(URI.create(config.cases().baseUrl() + path))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_COMMENTS, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), new TypeReference<List<CaseCommentDto>>() {});
+                return ApiJson.read(json.comments, response);
             } else {
                 throw new RuntimeException("Error obteniendo comentarios: " + response.statusCode());
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error conectando con API de Red Hat", e);
         }
@@ -208,24 +219,25 @@ public class RedHatCasesClient {
     public CaseCommentDto addComment(String caseNumber, AddCommentRequestDto commentRequest) {
         try {
             String token = authClient.getAccessToken();
-            String jsonBody = objectMapper.writeValueAsString(commentRequest);
+            byte[] jsonBody = json.addComment.writeValueAsBytes(commentRequest);
 
             HttpRequest request = HttpRequest.newBuilder()
                     .uri(URI.create(config.cases().baseUrl() + String.format(PATH_CASE_COMMENTS, caseNumber)))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.ADD_COMMENT, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode() ||
                 response.statusCode() == Response.Status.CREATED.getStatusCode()) {
-                return objectMapper.readValue(response.body(), CaseCommentDto.class);
+                return ApiJson.read(json.comment, response);
             } else {
-                throw new RuntimeException("Error agregando comentario: " + response.statusCode() + " - " + response.body());
+                throw new RuntimeException("Error agregando comentario: " + response.statusCode() + " - " + ApiRequestExecutor.bodyText(response));
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error conectando con API de Red Hat", e);
         }
@@ -242,16 +254,17 @@ public class RedHatCasesClient {
                     .uri(URI.create(config.cases().baseUrl() + PATH_CURRENT_ACCOUNT))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_ACCOUNT, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), AccountInfoDto.class);
+                return ApiJson.read(json.account, response);
             } else {
                 throw new RuntimeException("Error obteniendo cuenta: " + response.statusCode());
             }
+        } catch (CircuitOpenException | QuotaExceededException | DeadlineExceededException | RateLimitExceededException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Error conectando con API de Red Hat", e);
         }
@@ -269,15 +282,14 @@ public class RedHatCasesClient {
                     .uri(URI.create(config.cases().baseUrl() + PATH_ENTITLEMENTS))
                     .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
                     .GET()
-                    .timeout(Duration.ofSeconds(config.timeouts().requestSeconds()))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = executor.send(ApiOperation.GET_ENTITLEMENTS, request);
 
             if (response.statusCode() == Response.Status.OK.getStatusCode()) {
-                return objectMapper.readValue(response.body(), new TypeReference<List<EntitlementDto>>() {});
+                return ApiJson.read(json.entitlements, response);
             } else {
-                throw new RuntimeException("Error obteniendo entitlements (HTTP " + response.statusCode() + "): " + response.body());
+                throw new RuntimeException("Error obteniendo entitlements (HTTP " + response.statusCode() + "): " + ApiRequestExecutor.bodyText(response));
             }
         } catch (RuntimeException e) {
             throw e;
@@ -285,4 +297,19 @@ public class RedHatCasesClient {
             throw new RuntimeException("Error conectando con API de Red Hat: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Indica si el cuerpo contiene algo distinto de espacios en blanco.
+     */
+    private static boolean hasContent(byte[] body) {
+        if (body == null) {
+            return false;
+        }
+        for (byte b : body) {
+            if (!Character.isWhitespace(b)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
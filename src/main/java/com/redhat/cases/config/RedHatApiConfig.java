@@ -1,6 +1,7 @@
 package com.redhat.cases.config;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import io.smallrye.config.ConfigMapping;
@@ -28,11 +29,66 @@ public interface RedHatApiConfig {
      */
     Cases cases();
 
+    /**
+     * Configuracion de la API Hydra (productos y versiones).
+     */
+    Hydra hydra();
+
     /**
      * Timeouts de conexion.
      */
     Timeouts timeouts();
 
+    /**
+     * Compresion de las respuestas (gzip/deflate).
+     */
+    Compression compression();
+
+    /**
+     * Limitador de peticiones compartido por las APIs de casos y Hydra.
+     */
+    RateLimit rateLimit();
+
+    /**
+     * Reintentos de operaciones idempotentes ante errores transitorios.
+     */
+    Retry retry();
+
+    /**
+     * Circuit breakers por endpoint (casos, Hydra y SSO).
+     */
+    CircuitBreaker circuitBreaker();
+
+    /**
+     * Peticiones de cobertura (hedging) para lecturas sensibles a latencia.
+     */
+    Hedging hedging();
+
+    /**
+     * Cache de casos: lecturas recientes y datos de respaldo ante caidas.
+     */
+    Cache cache();
+
+    /**
+     * Cuotas por conexion MCP sobre llamadas a herramientas y peticiones a la API.
+     */
+    ConnectionQuota connectionQuota();
+
+    /**
+     * Tamano maximo de las respuestas de las herramientas MCP.
+     */
+    Responses responses();
+
+    /**
+     * Vigilancia de cambios en casos con notificaciones a los clientes MCP suscritos.
+     */
+    Watcher watcher();
+
+    /**
+     * Datos en vivo (cacheados) incluidos en los prompts MCP.
+     */
+    Prompts prompts();
+
     /**
      * Lista de productos disponibles.
      */
@@ -72,11 +128,191 @@ public interface RedHatApiConfig {
         String defaultSortOrder();
     }
 
+    interface Hydra {
+        @WithDefault("https://access.redhat.com/hydra/rest")
+        String baseUrl();
+    }
+
+    interface Compression {
+        /**
+         * Envia Accept-Encoding y descomprime las respuestas que lleguen comprimidas.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
     interface Timeouts {
         @WithDefault("30")
         int connectSeconds();
 
         @WithDefault("60")
         int requestSeconds();
+
+        /**
+         * Timeout por operacion (clave: get-case, list-cases, ...); si falta, se usa requestSeconds.
+         */
+        Map<String, Integer> operations();
+
+        /**
+         * Plazo total de una llamada a una herramienta MCP, incluyendo todas sus peticiones.
+         */
+        @WithDefault("45")
+        int toolDeadlineSeconds();
+    }
+
+    interface RateLimit {
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("10")
+        double permitsPerSecond();
+
+        @WithDefault("0.5")
+        double minPermitsPerSecond();
+
+        @WithDefault("0.2")
+        double recoveryStep();
+
+        @WithDefault("20")
+        int burst();
+
+        @WithDefault("30")
+        int maxWaitSeconds();
+
+        @WithDefault("3")
+        int maxThrottleRetries();
+    }
+
+    interface Retry {
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("3")
+        int maxAttempts();
+
+        @WithDefault("200")
+        long initialBackoffMillis();
+
+        @WithDefault("2000")
+        long maxBackoffMillis();
+
+        @WithDefault("15")
+        int budgetSeconds();
+    }
+
+    interface CircuitBreaker {
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("5")
+        int failureThreshold();
+
+        @WithDefault("30")
+        int openSeconds();
+
+        @WithDefault("1")
+        int halfOpenProbes();
+    }
+
+    interface Cache {
+        @WithDefault("15")
+        int freshSeconds();
+
+        @WithDefault("3600")
+        int staleSeconds();
+
+        @WithDefault("1000")
+        int maxEntries();
+
+        /**
+         * Vigencia del catalogo de productos y de las suscripciones, que cambian muy poco.
+         */
+        @WithDefault("3600")
+        int referenceSeconds();
+    }
+
+    interface Hedging {
+        @WithDefault("false")
+        boolean enabled();
+
+        @WithDefault("95")
+        double percentile();
+
+        @WithDefault("50")
+        long minDelayMillis();
+
+        @WithDefault("1000")
+        long defaultDelayMillis();
+
+        @WithDefault("20")
+        int minSamples();
+
+        @WithDefault("4")
+        int maxInFlight();
+    }
+
+    interface ConnectionQuota {
+        @WithDefault("true")
+        boolean enabled();
+
+        @WithDefault("120")
+        int toolCallsPerMinute();
+
+        @WithDefault("20")
+        int toolCallsBurst();
+
+        @WithDefault("240")
+        int apiRequestsPerMinute();
+
+        @WithDefault("40")
+        int apiRequestsBurst();
+
+        @WithDefault("30")
+        int idleMinutes();
+    }
+
+    interface Responses {
+        /**
+         * Caracteres maximos por respuesta; el resto se entrega en paginas con cursor.
+         */
+        @WithDefault("20000")
+        int maxChars();
+
+        /**
+         * Elementos maximos por pagina en las respuestas con format=json.
+         */
+        @WithDefault("50")
+        int maxItems();
+    }
+
+    interface Watcher {
+        @WithDefault("30")
+        int minIntervalSeconds();
+
+        @WithDefault("300")
+        int maxIntervalSeconds();
+
+        @WithDefault("50")
+        int pageSize();
+
+        @WithDefault("5")
+        int maxPages();
+
+        /**
+         * Casos maximos con recursos case:// registrados por lecturas y no vigilados.
+         */
+        @WithDefault("100")
+        int maxCaseResources();
+    }
+
+    interface Prompts {
+        @WithDefault("true")
+        boolean liveData();
+
+        /**
+         * Antiguedad maxima de los datos cacheados que se incluyen en un prompt.
+         */
+        @WithDefault("300")
+        int maxAgeSeconds();
     }
 }
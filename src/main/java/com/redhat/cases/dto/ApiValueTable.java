@@ -0,0 +1,135 @@
+package com.redhat.cases.dto;
+
+import java.util.Map;
+
+/**
+ * Tabla de busqueda de valores conocidos de la API, sin distinguir mayusculas ni separadores
+ * (espacio, guion y guion bajo son equivalentes).
+ *
+ * Se construye como hash perfecto: al crearla se buscan un tamano y un multiplicador sin
+ * colisiones, de modo que cada busqueda hace una sola sonda y compara caracter a caracter,
+ * sin crear Strings intermedios.
+ */
+public final class ApiValueTable<V> {
+
+    private static final int[] MULTIPLIERS = {31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97, 101};
+    private static final int MAX_SIZE = 1 << 12;
+
+    private final String[] keys;
+    private final V[] values;
+    private final int mask;
+    private final int multiplier;
+
+    @SuppressWarnings("unchecked")
+    private ApiValueTable(Map<String, V> entries, int size, int multiplier) {
+        this.keys = new String[size];
+        this.values = (V[]) new Object[size];
+        this.mask = size - 1;
+        this.multiplier = multiplier;
+        entries.forEach((key, value) -> {
+            int slot = hash(key, 0, key.length()) & mask;
+            keys[slot] = key;
+            values[slot] = value;
+        });
+    }
+
+    /**
+     * Crea la tabla para las claves dadas.
+     *
+     * @throws IllegalArgumentException si dos claves son equivalentes o no se encuentra hash perfecto
+     */
+    public static <V> ApiValueTable<V> of(Map<String, V> entries) {
+        int size = Integer.highestOneBit(Math.max(1, entries.size() * 2 - 1)) << 1;
+        for (; size <= MAX_SIZE; size <<= 1) {
+            for (int multiplier : MULTIPLIERS) {
+                if (isPerfect(entries, size, multiplier)) {
+                    return new ApiValueTable<>(entries, size, multiplier);
+                }
+            }
+        }
+        throw new IllegalArgumentException("No se encontro hash perfecto para " + entries.keySet());
+    }
+
+    /**
+     * Valor asociado a {@code text}, o {@code defaultValue} si es null o desconocido.
+     */
+    public V get(CharSequence text, V defaultValue) {
+        if (text == null) {
+            return defaultValue;
+        }
+        int slot = hash(text, 0, text.length()) & mask;
+        String key = keys[slot];
+        if (key == null || key.length() != text.length()) {
+            return defaultValue;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (normalize(key.charAt(i)) != normalize(text.charAt(i))) {
+                return defaultValue;
+            }
+        }
+        return values[slot];
+    }
+
+    /**
+     * Igual que {@link #get(CharSequence, Object)} sobre un buffer de caracteres (el del parser JSON).
+     */
+    public V get(char[] buffer, int offset, int length, V defaultValue) {
+        int slot = hash(buffer, offset, length) & mask;
+        String key = keys[slot];
+        if (key == null || key.length() != length) {
+            return defaultValue;
+        }
+        for (int i = 0; i < length; i++) {
+            if (normalize(key.charAt(i)) != normalize(buffer[offset + i])) {
+                return defaultValue;
+            }
+        }
+        return values[slot];
+    }
+
+    private static <V> boolean isPerfect(Map<String, V> entries, int size, int multiplier) {
+        boolean[] used = new boolean[size];
+        for (String key : entries.keySet()) {
+            int slot = hash(key, 0, key.length(), multiplier) & (size - 1);
+            if (used[slot]) {
+                return false;
+            }
+            used[slot] = true;
+        }
+        return true;
+    }
+
+    private int hash(CharSequence text, int offset, int length) {
+        return hash(text, offset, length, multiplier);
+    }
+
+    private int hash(char[] buffer, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = h * multiplier + normalize(buffer[i]);
+        }
+        return spread(h);
+    }
+
+    private static int hash(CharSequence text, int offset, int length, int multiplier) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = h * multiplier + normalize(text.charAt(i));
+        }
+        return spread(h);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static char normalize(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c == ' ' || c == '-') {
+            return '_';
+        }
+        return c < 128 ? c : Character.toLowerCase(c);
+    }
+}
@@ -0,0 +1,142 @@
+package com.redhat.cases.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.CaseStatus;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+/**
+ * Valores de estado y severidad de la API de Red Hat y su correspondencia con el modelo.
+ *
+ * Las busquedas no crean objetos: los (de)serializadores de Jackson leen el valor directamente
+ * del buffer del parser, sin materializar el String de la respuesta.
+ */
+public final class ApiValues {
+
+    public static final String STATUS_WAITING_ON_RED_HAT = "Waiting on Red Hat";
+    public static final String STATUS_WAITING_ON_CUSTOMER = "Waiting on Customer";
+    public static final String STATUS_CLOSED = "Closed";
+
+    /** Estado de la API a estado del modelo (desconocido: IN_PROGRESS). */
+    public static final ApiValueTable<CaseStatus> STATUSES = ApiValueTable.of(Map.ofEntries(
+        entry("new", CaseStatus.NEW),
+        entry("waiting on red hat", CaseStatus.NEW),
+        entry("in progress", CaseStatus.IN_PROGRESS),
+        entry("working", CaseStatus.IN_PROGRESS),
+        entry("waiting on customer", CaseStatus.WAITING_CUSTOMER),
+        entry("waiting for customer", CaseStatus.WAITING_CUSTOMER),
+        entry("waiting on vendor", CaseStatus.WAITING_VENDOR),
+        entry("waiting on engineering", CaseStatus.WAITING_VENDOR),
+        entry("resolved", CaseStatus.RESOLVED),
+        entry("solution proposed", CaseStatus.RESOLVED),
+        entry("closed", CaseStatus.CLOSED)));
+
+    /** Severidad de la API, o nombre de prioridad, a prioridad del modelo (desconocida: NORMAL). */
+    public static final ApiValueTable<CasePriority> SEVERITIES = ApiValueTable.of(Map.ofEntries(
+        entry("1 (urgent)", CasePriority.URGENT),
+        entry("urgent", CasePriority.URGENT),
+        entry("1", CasePriority.URGENT),
+        entry("2 (high)", CasePriority.HIGH),
+        entry("high", CasePriority.HIGH),
+        entry("2", CasePriority.HIGH),
+        entry("3 (normal)", CasePriority.NORMAL),
+        entry("normal", CasePriority.NORMAL),
+        entry("3", CasePriority.NORMAL),
+        entry("4 (low)", CasePriority.LOW),
+        entry("low", CasePriority.LOW),
+        entry("4", CasePriority.LOW)));
+
+    /** Estado indicado por el usuario (nombre del modelo o alias) a estado de la API. */
+    public static final ApiValueTable<String> STATUS_INPUTS = ApiValueTable.of(Map.ofEntries(
+        entry("new", STATUS_WAITING_ON_RED_HAT),
+        entry("in progress", STATUS_WAITING_ON_RED_HAT),
+        entry("waiting on red hat", STATUS_WAITING_ON_RED_HAT),
+        entry("open", STATUS_WAITING_ON_RED_HAT),
+        entry("reopen", STATUS_WAITING_ON_RED_HAT),
+        entry("reopened", STATUS_WAITING_ON_RED_HAT),
+        entry("waiting customer", STATUS_WAITING_ON_CUSTOMER),
+        entry("waiting on customer", STATUS_WAITING_ON_CUSTOMER),
+        entry("closed", STATUS_CLOSED),
+        entry("close", STATUS_CLOSED)));
+
+    private ApiValues() {
+    }
+
+    /**
+     * Valor de la API para un estado del modelo; {@link #STATUSES} lo devuelve al mismo estado.
+     */
+    public static String apiStatus(CaseStatus status) {
+        return switch (status) {
+            case NEW -> STATUS_WAITING_ON_RED_HAT;
+            case IN_PROGRESS -> "In Progress";
+            case WAITING_CUSTOMER -> STATUS_WAITING_ON_CUSTOMER;
+            case WAITING_VENDOR -> "Waiting on Vendor";
+            case RESOLVED -> "Resolved";
+            case CLOSED -> STATUS_CLOSED;
+        };
+    }
+
+    /**
+     * Severidad de la API para una prioridad del modelo.
+     */
+    public static String apiSeverity(CasePriority priority) {
+        return switch (priority) {
+            case URGENT -> "1 (Urgent)";
+            case HIGH -> "2 (High)";
+            case NORMAL -> "3 (Normal)";
+            case LOW -> "4 (Low)";
+        };
+    }
+
+    private static <V> V read(JsonParser p, ApiValueTable<V> table, V unknown) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return table.get(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), unknown);
+        }
+        if (token == null || !token.isScalarValue()) {
+            // Objeto o array: se descarta entero para que el parser siga en el campo siguiente
+            p.skipChildren();
+            return unknown;
+        }
+        // Severidades numericas (1-4)
+        return table.get(p.getValueAsString(), unknown);
+    }
+
+    public static final class StatusDeserializer extends JsonDeserializer<CaseStatus> {
+        @Override
+        public CaseStatus deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return read(p, STATUSES, CaseStatus.IN_PROGRESS);
+        }
+    }
+
+    public static final class SeverityDeserializer extends JsonDeserializer<CasePriority> {
+        @Override
+        public CasePriority deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return read(p, SEVERITIES, CasePriority.NORMAL);
+        }
+    }
+
+    public static final class StatusSerializer extends JsonSerializer<CaseStatus> {
+        @Override
+        public void serialize(CaseStatus value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(apiStatus(value));
+        }
+    }
+
+    public static final class SeveritySerializer extends JsonSerializer<CasePriority> {
+        @Override
+        public void serialize(CasePriority value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(apiSeverity(value));
+        }
+    }
+}
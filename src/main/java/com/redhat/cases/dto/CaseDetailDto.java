@@ -4,6 +4,10 @@ import java.time.Instant;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.CaseStatus;
 
 /**
  * DTO para el detalle de un caso de soporte desde la API de Red Hat.
@@ -14,10 +18,21 @@ public class CaseDetailDto {
     private String caseNumber;
     private String summary;
     private String description;
-    private String status;
-    private String severity;
+
+    // Convertidos al modelo al deserializar (ver ApiValues)
+    @JsonDeserialize(using = ApiValues.StatusDeserializer.class)
+    @JsonSerialize(using = ApiValues.StatusSerializer.class)
+    private CaseStatus status;
+    @JsonDeserialize(using = ApiValues.SeverityDeserializer.class)
+    @JsonSerialize(using = ApiValues.SeveritySerializer.class)
+    private CasePriority severity;
+
+    // Valores repetidos en muchos casos: se comparten entre instancias (ver PooledStringDeserializer)
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String product;
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String version;
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String caseType;
     private String accountNumber;
     private String contactSSOName;
@@ -33,7 +48,9 @@ public class CaseDetailDto {
     private String issue;
     private String hostname;
     private String groupNumber;
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String groupName;
+    @JsonDeserialize(using = PooledStringDeserializer.class)
     private String entitlementSla;
     private String caseLanguage;
     private String alternateId;
@@ -55,11 +72,11 @@ public class CaseDetailDto {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public CaseStatus getStatus() { return status; }
+    public void setStatus(CaseStatus status) { this.status = status; }
 
-    public String getSeverity() { return severity; }
-    public void setSeverity(String severity) { this.severity = severity; }
+    public CasePriority getSeverity() { return severity; }
+    public void setSeverity(CasePriority severity) { this.severity = severity; }
 
     public String getProduct() { return product; }
     public void setProduct(String product) { this.product = product; }
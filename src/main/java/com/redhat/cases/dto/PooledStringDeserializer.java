@@ -0,0 +1,32 @@
+package com.redhat.cases.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.redhat.cases.model.Interner;
+
+import java.io.IOException;
+
+/**
+ * Deserializador para campos de texto con pocos valores distintos (producto, version, tipo de caso...).
+ *
+ * Devuelve la instancia compartida del {@link Interner}: el valor se busca directamente en el buffer
+ * del parser y solo se crea un String la primera vez que aparece.
+ */
+public class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+    public PooledStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            return Interner.intern(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        // Numeros y demas escalares, con las mismas reglas que el deserializador de String por defecto
+        return Interner.intern(StringDeserializer.instance.deserialize(p, ctxt));
+    }
+}
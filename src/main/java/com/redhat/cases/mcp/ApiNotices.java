@@ -0,0 +1,69 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.client.CircuitOpenException;
+import com.redhat.cases.client.QuotaExceededException;
+import com.redhat.cases.client.RateLimitExceededException;
+import com.redhat.cases.service.CaseCache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * User-facing text for Red Hat API failures in tool and resource responses.
+ *
+ * The client-layer exception messages are written for the server log, so MCP clients get
+ * these English notices instead.
+ */
+final class ApiNotices {
+
+    private static final DateTimeFormatter STALE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private ApiNotices() {
+    }
+
+    /**
+     * The Red Hat API endpoint is unavailable (its circuit breaker is open).
+     */
+    static String unavailable(CircuitOpenException e) {
+        return "The Red Hat API (" + e.getEndpoint().getHost() + ") is temporarily unavailable. Retry in "
+            + Math.max(1, e.getRetryIn().toSeconds()) + " seconds.";
+    }
+
+    /**
+     * The MCP connection exceeded one of its per-connection quotas.
+     */
+    static String quotaExceeded(QuotaExceededException e) {
+        String quota = switch (e.getKind()) {
+            case TOOL_CALLS -> "tool calls";
+            case API_REQUESTS -> "Red Hat API requests";
+        };
+        return "This connection exceeded its quota of " + quota + " per minute. Retry in "
+            + Math.max(1, e.getRetryIn().toSeconds()) + " seconds.";
+    }
+
+    /**
+     * The shared Red Hat API rate limiter has no permit within its maximum wait.
+     */
+    static String rateLimited(RateLimitExceededException e) {
+        return "The Red Hat API request rate limit is saturated. Retry in "
+            + Math.max(1, e.getRetryIn().toSeconds()) + " seconds.";
+    }
+
+    /**
+     * The request ran out of its deadline waiting for the Red Hat API.
+     */
+    static String timedOut(String what, int seconds) {
+        return what + " timed out after " + seconds + " seconds waiting for the Red Hat API. Try again later.";
+    }
+
+    /**
+     * Marker prepended to responses served from cache while the Red Hat API circuit is open.
+     */
+    static String stale(CircuitOpenException e, CaseCache.Entry<?> entry) {
+        return String.format("[STALE DATA] %s%nShowing cached data from %s (%d min old).%n%n",
+            unavailable(e),
+            LocalDateTime.ofInstant(entry.fetchedAt(), ZoneId.systemDefault()).format(STALE_FORMAT),
+            entry.age().toMinutes());
+    }
+}
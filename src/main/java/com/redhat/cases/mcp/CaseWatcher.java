@@ -0,0 +1,208 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.SupportCaseService;
+
+import io.quarkiverse.mcp.server.McpConnection;
+import io.quarkus.logging.Log;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side watcher for changes to support cases.
+ *
+ * While at least one MCP connection watches a case, a single account-wide poll of the most
+ * recently modified cases runs on an adaptive interval (shortest right after a change, doubling
+ * while nothing changes), so N agents watching cases cost one poll instead of N.
+ * When a watched case changes, its cached data is dropped and connections subscribed to its
+ * case:// resources (see {@link SupportCaseResources}) receive a resources/updated notification.
+ */
+@ApplicationScoped
+public class CaseWatcher {
+
+    @Inject
+    SupportCaseService caseService;
+
+    @Inject
+    SupportCaseResources resources;
+
+    @Inject
+    RedHatApiConfig config;
+
+    // caseNumber -> (connection id -> connection); guarded by this
+    private final Map<String, Map<String, McpConnection>> watchers = new HashMap<>();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextPoll;
+    private Duration interval;
+    private Instant highWater;
+
+    /**
+     * Starts watching a case for a connection. {@code supportCase} is the baseline changes are
+     * detected against, so it should be freshly fetched.
+     *
+     * @return false if the connection was already watching it
+     */
+    public synchronized boolean watch(SupportCase supportCase, McpConnection connection) {
+        String caseNumber = supportCase.id();
+        boolean added = watchers.computeIfAbsent(caseNumber, k -> new HashMap<>())
+            .put(connection.id(), connection) == null;
+        // A case without modification date is reported on the first one seen
+        lastModified.putIfAbsent(caseNumber, supportCase.updatedAt() != null ? supportCase.updatedAt() : Instant.EPOCH);
+        resources.watched(caseNumber);
+        if (nextPoll == null) {
+            interval = Duration.ofSeconds(config.watcher().minIntervalSeconds());
+            schedule();
+        }
+        return added;
+    }
+
+    /**
+     * Stops watching a case for a connection.
+     *
+     * @return false if the connection was not watching it
+     */
+    public synchronized boolean unwatch(String caseNumber, McpConnection connection) {
+        Map<String, McpConnection> connections = watchers.get(caseNumber);
+        if (connections == null || connections.remove(connection.id()) == null) {
+            return false;
+        }
+        if (connections.isEmpty()) {
+            stopWatching(caseNumber);
+        }
+        return true;
+    }
+
+    void poll() {
+        Set<String> watched;
+        synchronized (this) {
+            pruneClosedConnections();
+            if (watchers.isEmpty()) {
+                nextPoll = null;
+                return;
+            }
+            watched = Set.copyOf(watchers.keySet());
+        }
+
+        boolean changed = false;
+        try {
+            changed = detectChanges(watched);
+        } catch (RuntimeException e) {
+            Log.debugf("Case watcher poll failed: %s", e.getMessage());
+        }
+
+        synchronized (this) {
+            Duration min = Duration.ofSeconds(config.watcher().minIntervalSeconds());
+            Duration max = Duration.ofSeconds(config.watcher().maxIntervalSeconds());
+            interval = changed ? min : (interval.multipliedBy(2).compareTo(max) > 0 ? max : interval.multipliedBy(2));
+            if (watchers.isEmpty()) {
+                nextPoll = null;
+            } else {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Walks cases newest-modified first until it passes the previous poll's high-water mark,
+     * notifying watched cases modified since they were last seen. Cases modified at the
+     * high-water mark itself are checked again, since the API timestamps have second precision
+     * and another change in that second may not have been listed yet; the per-case last seen
+     * modification keeps them from being reported twice.
+     */
+    private boolean detectChanges(Set<String> watched) {
+        int pageSize = config.watcher().pageSize();
+        Instant previous = highWater;
+        Instant newest = highWater;
+        boolean changed = false;
+
+        for (int page = 0; page < config.watcher().maxPages(); page++) {
+            List<SupportCase> cases = caseService.listRecentlyModified(pageSize, page * pageSize);
+            boolean reachedPrevious = false;
+            for (SupportCase c : cases) {
+                Instant modified = c.updatedAt();
+                if (modified == null) {
+                    continue;
+                }
+                if (newest == null || modified.isAfter(newest)) {
+                    newest = modified;
+                }
+                if (previous != null && modified.isBefore(previous)) {
+                    reachedPrevious = true;
+                    break;
+                }
+                if (watched.contains(c.id())) {
+                    Instant known = lastModified.get(c.id());
+                    if (known == null || modified.isAfter(known)) {
+                        lastModified.put(c.id(), modified);
+                        notifyChanged(c);
+                        changed = true;
+                    }
+                }
+            }
+            // The first poll only establishes the high-water mark
+            if (reachedPrevious || previous == null || cases.size() < pageSize) {
+                break;
+            }
+        }
+
+        highWater = newest;
+        return changed;
+    }
+
+    private void notifyChanged(SupportCase supportCase) {
+        Log.infof("Case %s changed (%s), notifying subscribers", supportCase.id(), supportCase.status().getDisplayName());
+        caseService.invalidateCase(supportCase.id());
+        resources.notifyChanged(supportCase.id());
+    }
+
+    private void stopWatching(String caseNumber) {
+        watchers.remove(caseNumber);
+        lastModified.remove(caseNumber);
+        resources.unwatched(caseNumber);
+    }
+
+    private void pruneClosedConnections() {
+        for (String caseNumber : List.copyOf(watchers.keySet())) {
+            Map<String, McpConnection> connections = watchers.get(caseNumber);
+            connections.values().removeIf(c -> c.status() == McpConnection.Status.CLOSED);
+            if (connections.isEmpty()) {
+                stopWatching(caseNumber);
+            }
+        }
+    }
+
+    private void schedule() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "case-watcher");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        nextPoll = scheduler.schedule(this::poll, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
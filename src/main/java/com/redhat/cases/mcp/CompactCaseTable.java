@@ -0,0 +1,227 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.model.SupportCase;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Token-efficient rendering of case lists as a pipe-separated table.
+ *
+ * Statuses and products repeat on almost every row, so they are dictionary-encoded: each row
+ * carries a short code (S1, P1...) and the legend after the table maps codes to full names.
+ * Rows are appended in a single pass into the caller's builder, without per-row strings.
+ */
+final class CompactCaseTable {
+
+    enum Field {
+        ID(10),
+        TITLE(60),
+        STATUS(3),
+        PRIORITY(7),
+        PRODUCT(3),
+        VERSION(6),
+        COMPONENT(15),
+        ASSIGNEE(15),
+        CREATED(11),
+        UPDATED(11);
+
+        // Rough rendered width, used to pre-size the output buffer
+        final int width;
+
+        Field(int width) {
+            this.width = width;
+        }
+    }
+
+    static final List<Field> DEFAULT_FIELDS =
+        List.of(Field.ID, Field.STATUS, Field.PRIORITY, Field.PRODUCT, Field.UPDATED, Field.TITLE);
+
+    private static final ZoneRules LOCAL_ZONE = ZoneId.systemDefault().getRules();
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private static final String STATUS_PREFIX = "S";
+    private static final String PRODUCT_PREFIX = "P";
+
+    private CompactCaseTable() {
+    }
+
+    /**
+     * Parses a comma-separated field list; blank selects {@link #DEFAULT_FIELDS}.
+     *
+     * @throws IllegalArgumentException for an unknown field name
+     */
+    static List<Field> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT_FIELDS;
+        }
+        EnumSet<Field> seen = EnumSet.noneOf(Field.class);
+        List<Field> parsed = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            Field field;
+            try {
+                field = Field.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown field: '" + name.trim() + "'. Valid fields: " +
+                    EnumSet.allOf(Field.class).toString().toLowerCase(Locale.ROOT));
+            }
+            if (seen.add(field)) {
+                parsed.add(field);
+            }
+        }
+        return parsed.isEmpty() ? DEFAULT_FIELDS : parsed;
+    }
+
+    /**
+     * Initial capacity for a table of {@code rows} rows, capped by the response budget.
+     */
+    static int capacity(int rows, List<Field> fields, int maxChars) {
+        int rowWidth = 1;
+        for (Field field : fields) {
+            rowWidth += field.width + 1;
+        }
+        return (int) Math.min(maxChars + 256L, 256L + (long) rows * rowWidth);
+    }
+
+    /**
+     * Appends the header, the rows from {@code offset} that fit within {@code maxChars}
+     * (at least one) and the legend of the codes used.
+     *
+     * @return the index of the first case not rendered ({@code cases.size()} when all fit)
+     */
+    static int render(StringBuilder sb, List<SupportCase> cases, int offset, List<Field> fields, int maxChars) {
+        sb.append('#');
+        for (int f = 0; f < fields.size(); f++) {
+            if (f > 0) {
+                sb.append('|');
+            }
+            sb.append(fields.get(f).name().toLowerCase(Locale.ROOT));
+        }
+        sb.append('\n');
+
+        Map<String, String> statuses = new LinkedHashMap<>();
+        Map<String, String> products = new LinkedHashMap<>();
+        int legendLength = 0;
+        int i = offset;
+        while (i < cases.size()) {
+            int rowStart = sb.length();
+            int statusCount = statuses.size();
+            int productCount = products.size();
+            SupportCase c = cases.get(i);
+            for (int f = 0; f < fields.size(); f++) {
+                if (f > 0) {
+                    sb.append('|');
+                }
+                switch (fields.get(f)) {
+                    case ID -> appendValue(sb, c.id());
+                    case TITLE -> appendValue(sb, c.title());
+                    case STATUS -> sb.append(code(statuses, STATUS_PREFIX, c.status().getDisplayName()));
+                    case PRIORITY -> sb.append(c.priority().name());
+                    case PRODUCT -> sb.append(code(products, PRODUCT_PREFIX, c.product()));
+                    case VERSION -> appendValue(sb, c.version());
+                    case COMPONENT -> appendValue(sb, c.component());
+                    case ASSIGNEE -> appendValue(sb, c.assignee());
+                    case CREATED -> appendDate(sb, c.createdAt());
+                    case UPDATED -> appendDate(sb, c.updatedAt());
+                }
+            }
+            sb.append('\n');
+
+            int added = legendGrowth(statuses, statusCount) + legendGrowth(products, productCount);
+            if (i > offset && sb.length() + legendLength + added > maxChars) {
+                // Drop the row, and the codes it introduced, for the next page
+                sb.setLength(rowStart);
+                truncate(statuses, statusCount);
+                truncate(products, productCount);
+                break;
+            }
+            legendLength += added;
+            i++;
+        }
+
+        appendLegend(sb, statuses);
+        appendLegend(sb, products);
+        return i;
+    }
+
+    private static String code(Map<String, String> dictionary, String prefix, String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String code = dictionary.get(value);
+        if (code == null) {
+            code = prefix + (dictionary.size() + 1);
+            dictionary.put(value, code);
+        }
+        return code;
+    }
+
+    // Length of the legend entries added since the dictionary had 'before' entries
+    private static int legendGrowth(Map<String, String> dictionary, int before) {
+        int length = 0;
+        int index = 0;
+        for (Map.Entry<String, String> entry : dictionary.entrySet()) {
+            if (index++ >= before) {
+                length += entry.getValue().length() + entry.getKey().length() + 4;
+            }
+        }
+        return length;
+    }
+
+    private static void truncate(Map<String, String> dictionary, int size) {
+        if (dictionary.size() > size) {
+            dictionary.values().removeIf(code -> Integer.parseInt(code.substring(1)) > size);
+        }
+    }
+
+    private static void appendLegend(StringBuilder sb, Map<String, String> dictionary) {
+        if (dictionary.isEmpty()) {
+            return;
+        }
+        sb.append('#');
+        dictionary.forEach((value, code) -> sb.append(' ').append(code).append('=').append(value));
+        sb.append('\n');
+    }
+
+    // Table cells cannot contain the separator or line breaks
+    private static void appendValue(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            sb.append(ch == '|' ? '/' : (ch == '\n' || ch == '\r') ? ' ' : ch);
+        }
+    }
+
+    // Local date of the instant, from the epoch day; no LocalDateTime per cell
+    private static void appendDate(StringBuilder sb, Instant instant) {
+        if (instant == null) {
+            return;
+        }
+        long localSeconds = instant.getEpochSecond() + LOCAL_ZONE.getOffset(instant).getTotalSeconds();
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(localSeconds, SECONDS_PER_DAY));
+        sb.append(date.getYear()).append('-');
+        appendTwoDigits(sb, date.getMonthValue());
+        sb.append('-');
+        appendTwoDigits(sb, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+}
@@ -1,19 +1,27 @@
 package com.redhat.cases.mcp;
 
+import com.redhat.cases.client.ConnectionQuotas;
+
 import io.quarkiverse.mcp.server.McpConnection;
 import io.quarkiverse.mcp.server.Notification;
 import io.quarkiverse.mcp.server.Notification.Type;
 import io.quarkus.logging.Log;
 
+import jakarta.inject.Inject;
+
 /**
  * Handler for MCP client notifications.
- * Logs connection events.
+ * Logs connection events and starts per-connection usage accounting.
  */
 public class McpNotificationHandler {
 
+    @Inject
+    ConnectionQuotas quotas;
+
     @Notification(Type.INITIALIZED)
     void onClientInitialized(McpConnection connection) {
         Log.infof("MCP client connected - Connection ID: %s", connection.id());
+        quotas.register(connection.id());
         Log.debugf("Client capabilities - Sampling: %s, Roots: %s",
             connection.initialRequest().supportsSampling(),
             connection.initialRequest().supportsRoots());
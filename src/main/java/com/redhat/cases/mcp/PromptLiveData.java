@@ -0,0 +1,134 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.dto.EntitlementDto;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.CaseCache;
+import com.redhat.cases.service.SupportCaseService;
+
+import io.quarkus.logging.Log;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live account data for prompts, read only from the case cache.
+ *
+ * A section is rendered only when its cached data is younger than the configured bound.
+ * Missing or older data is left out of the prompt and refreshed in the background, so
+ * prompt rendering never waits for the Red Hat API.
+ */
+@ApplicationScoped
+public class PromptLiveData {
+
+    private static final DateTimeFormatter AS_OF = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Inject
+    SupportCaseService caseService;
+
+    @Inject
+    RedHatApiConfig config;
+
+    private final AtomicBoolean refreshingCases = new AtomicBoolean();
+    private final AtomicBoolean refreshingEntitlements = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "prompt-live-data");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Markdown section listing open urgent cases, if recent data is cached.
+     */
+    Optional<String> urgentCases() {
+        Optional<CaseCache.Entry<List<SupportCase>>> open = recent(caseService.getCachedOpenCases(),
+            refreshingCases, () -> caseService.listCases(false));
+        return open.map(entry -> {
+            List<SupportCase> urgent = entry.value().stream()
+                .filter(c -> c.priority() == CasePriority.URGENT)
+                .toList();
+            StringBuilder sb = new StringBuilder();
+            sb.append("## Current Urgent Cases (as of ").append(asOf(entry)).append(")\n\n");
+            if (urgent.isEmpty()) {
+                sb.append("No open urgent cases.\n");
+            }
+            for (SupportCase c : urgent) {
+                sb.append("- ").append(c).append("\n");
+            }
+            return sb.toString();
+        });
+    }
+
+    /**
+     * Markdown list of products the account can open cases for, if recent data is cached.
+     */
+    Optional<String> entitledProducts() {
+        Optional<CaseCache.Entry<List<EntitlementDto>>> entitlements = recent(caseService.getCachedEntitlements(),
+            refreshingEntitlements, caseService::getEntitlements);
+        return entitlements.map(entry -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Entitled products with support (as of ").append(asOf(entry)).append("):\n");
+            entry.value().stream()
+                .filter(EntitlementDto::allowsCaseCreation)
+                .forEach(e -> sb.append(e).append("\n"));
+            return sb.toString();
+        });
+    }
+
+    /**
+     * Last known status of a case, if it was fetched recently. Never triggers a fetch.
+     */
+    Optional<String> caseStatus(String caseNumber) {
+        if (caseNumber == null || !config.prompts().liveData()) {
+            return Optional.empty();
+        }
+        Duration maxAge = Duration.ofSeconds(config.prompts().maxAgeSeconds());
+        return caseService.getStaleCase(caseNumber)
+            .filter(e -> e.age().compareTo(maxAge) <= 0)
+            .map(e -> String.format("%nLast known state (as of %s): %s, priority %s - %s%n",
+                asOf(e), e.value().status().getDisplayName(), e.value().priority().getDisplayName(),
+                e.value().title()));
+    }
+
+    private <T> Optional<CaseCache.Entry<T>> recent(Optional<CaseCache.Entry<T>> cached,
+                                                    AtomicBoolean refreshing, Runnable refresh) {
+        if (!config.prompts().liveData() || !caseService.isConfigured()) {
+            return Optional.empty();
+        }
+        Duration maxAge = Duration.ofSeconds(config.prompts().maxAgeSeconds());
+        Optional<CaseCache.Entry<T>> recent = cached.filter(e -> e.age().compareTo(maxAge) <= 0);
+        if (recent.isEmpty() && refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    refresh.run();
+                } catch (RuntimeException e) {
+                    Log.debugf("Prompt live data refresh failed: %s", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return recent;
+    }
+
+    private static String asOf(CaseCache.Entry<?> entry) {
+        return LocalDateTime.ofInstant(entry.fetchedAt(), ZoneId.systemDefault()).format(AS_OF);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
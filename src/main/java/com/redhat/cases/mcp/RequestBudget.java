@@ -0,0 +1,37 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.client.ConnectionQuotas;
+import com.redhat.cases.client.Deadline;
+import com.redhat.cases.config.RedHatApiConfig;
+
+import io.quarkiverse.mcp.server.McpConnection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of one MCP request (a tool call or a resource read) on behalf of its connection.
+ *
+ * The request is charged to the connection's quota and rejected when the connection is over it,
+ * and it runs under the tool deadline, so all the Red Hat API calls it makes share one budget.
+ */
+@ApplicationScoped
+public class RequestBudget {
+
+    @Inject
+    ConnectionQuotas quotas;
+
+    @Inject
+    RedHatApiConfig config;
+
+    <T> T run(McpConnection connection, Supplier<T> body) {
+        return quotas.run(connection.id(), () -> Deadline.run(Duration.ofSeconds(deadlineSeconds()), body));
+    }
+
+    int deadlineSeconds() {
+        return config.timeouts().toolDeadlineSeconds();
+    }
+}
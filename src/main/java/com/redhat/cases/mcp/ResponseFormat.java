@@ -0,0 +1,40 @@
+package com.redhat.cases.mcp;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Output formats selectable through a tool's format argument.
+ */
+enum ResponseFormat {
+    /** Human-readable text (default). */
+    TEXT,
+    /** Structured content, see {@link StructuredResults}. */
+    JSON,
+    /** Dictionary-encoded table for large case lists, see {@link CompactCaseTable}. */
+    COMPACT;
+
+    /**
+     * Parses a format argument; blank means {@link #TEXT}.
+     *
+     * @throws IllegalArgumentException if the format is unknown or not one of {@code supported}
+     */
+    static ResponseFormat parse(String format, ResponseFormat... supported) {
+        ResponseFormat parsed = TEXT;
+        if (format != null && !format.isBlank()) {
+            parsed = null;
+            for (ResponseFormat f : supported) {
+                if (f.name().equalsIgnoreCase(format.trim())) {
+                    parsed = f;
+                }
+            }
+        }
+        if (parsed == null) {
+            throw new IllegalArgumentException("Invalid format: '" + format + "'. Use " + Arrays.stream(supported)
+                .map(f -> "'" + f.name().toLowerCase(Locale.ROOT) + "'")
+                .collect(Collectors.joining(" or ")) + ".");
+        }
+        return parsed;
+    }
+}
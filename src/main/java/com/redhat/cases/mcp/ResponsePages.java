@@ -0,0 +1,66 @@
+package com.redhat.cases.mcp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Size-bounded tool responses with opaque continuation cursors.
+ * A cursor encodes what is being paged (e.g. search results or the comments of a case)
+ * and the offset of the next item, so a cursor from one tool cannot be replayed on another.
+ */
+final class ResponsePages {
+
+    private ResponsePages() {
+    }
+
+    static String cursor(String scope, int offset) {
+        String raw = scope + ":" + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Offset encoded in a cursor, or 0 for a blank cursor.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another scope
+     */
+    static int offset(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        int offset = -1;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(':');
+            if (sep > 0 && raw.substring(0, sep).equals(scope)) {
+                offset = Integer.parseInt(raw.substring(sep + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            // malformed Base64 or offset, reported below
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return offset;
+    }
+
+    /**
+     * Appends rendered items starting at {@code offset} while the builder stays within {@code maxChars}.
+     * At least one item is always appended, so an oversized item cannot stall pagination.
+     *
+     * @return the index of the first item not appended ({@code items.size()} when all fit)
+     */
+    static <T> int appendPage(StringBuilder sb, List<T> items, int offset, int maxChars, Function<T, String> render) {
+        int i = offset;
+        while (i < items.size()) {
+            String line = render.apply(items.get(i));
+            if (i > offset && sb.length() + line.length() + 1 > maxChars) {
+                break;
+            }
+            sb.append(line).append("\n");
+            i++;
+        }
+        return i;
+    }
+}
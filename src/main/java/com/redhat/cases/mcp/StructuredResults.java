@@ -0,0 +1,154 @@
+package com.redhat.cases.mcp;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.redhat.cases.dto.EntitlementDto;
+import com.redhat.cases.dto.ProductDto;
+import com.redhat.cases.model.CaseComment;
+import com.redhat.cases.model.CaseStatus;
+import com.redhat.cases.model.SupportCase;
+
+import io.quarkiverse.mcp.server.InitialRequest;
+import io.quarkiverse.mcp.server.McpConnection;
+import io.quarkiverse.mcp.server.TextContent;
+import io.quarkiverse.mcp.server.ToolResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structured (format=json) tool results, serialized straight from the domain objects.
+ *
+ * The JSON is written once by a writer configured at startup and sent as the tool's structuredContent.
+ * Clients that negotiated a protocol version with structured content get a one-line summary as text
+ * content; older clients only read the text, so they get the same JSON there instead.
+ */
+@ApplicationScoped
+public class StructuredResults {
+
+    /** First MCP protocol version that defines structuredContent in tool results. */
+    static final String STRUCTURED_CONTENT_VERSION = "2025-06-18";
+
+    @Inject
+    ObjectMapper mapper;
+
+    private ObjectWriter writer;
+
+    @PostConstruct
+    void init() {
+        writer = mapper.copy()
+            .addMixIn(SupportCase.class, SupportCaseMixin.class)
+            .addMixIn(CaseStatus.class, CaseStatusMixin.class)
+            .addMixIn(EntitlementDto.class, EntitlementMixin.class)
+            .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.INDENT_OUTPUT)
+            .writer();
+    }
+
+    ToolResponse success(Result result, McpConnection connection) {
+        String json;
+        try {
+            json = writer.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            return ToolResponse.error("ERROR serializing result: " + e.getOriginalMessage());
+        }
+        String text = supportsStructuredContent(connection) ? result.summary() : json;
+        return new ToolResponse(false, List.of(new TextContent(text)), new RawValue(json), null);
+    }
+
+    static boolean supportsStructuredContent(McpConnection connection) {
+        InitialRequest initial = connection != null ? connection.initialRequest() : null;
+        String version = initial != null ? initial.protocolVersion() : null;
+        // Protocol versions are ISO dates, so they compare lexicographically
+        return version != null && version.compareTo(STRUCTURED_CONTENT_VERSION) >= 0;
+    }
+
+    /**
+     * A structured result; {@link #summary()} is the text content sent alongside it.
+     */
+    interface Result {
+        String summary();
+    }
+
+    // staleSince is set when the data was served from cache while the Red Hat API circuit is open
+
+    record CaseList(Instant staleSince, int total, int offset, String nextCursor, List<SupportCase> cases)
+            implements Result {
+        @Override
+        public String summary() {
+            String range = cases.isEmpty() ? "No cases" : "Cases " + (offset + 1) + "-" + (offset + cases.size());
+            return stale(staleSince) + range + " of " + total + " in structured content" + next(nextCursor);
+        }
+    }
+
+    record CaseDetails(Instant staleSince, SupportCase supportCase, int totalComments, int offset,
+                       String nextCursor, List<CaseComment> comments) implements Result {
+        @Override
+        public String summary() {
+            String range = comments.isEmpty() ? "no comments"
+                : "comments " + (offset + 1) + "-" + (offset + comments.size());
+            return stale(staleSince) + "Case " + supportCase.id() + " with " + range + " of " + totalComments
+                + " in structured content" + next(nextCursor);
+        }
+    }
+
+    record Statistics(Instant staleSince, Map<String, Object> statistics) implements Result {
+        @Override
+        public String summary() {
+            return stale(staleSince) + "Case statistics in structured content.";
+        }
+    }
+
+    record Products(List<ProductDto> products) implements Result {
+        @Override
+        public String summary() {
+            return products.size() + " products in structured content.";
+        }
+    }
+
+    record Entitlements(List<EntitlementDto> entitlements) implements Result {
+        @Override
+        public String summary() {
+            return entitlements.size() + " entitlements in structured content.";
+        }
+    }
+
+    private static String stale(Instant staleSince) {
+        return staleSince != null ? "[STALE DATA] Cached at " + staleSince + ". " : "";
+    }
+
+    private static String next(String nextCursor) {
+        return nextCursor != null ? "; next cursor: " + nextCursor : ".";
+    }
+
+    // Comments are paged separately in CaseDetails
+    @JsonIgnoreProperties("comments")
+    abstract static class SupportCaseMixin {
+        @JsonProperty("caseUrl")
+        abstract String caseUrl();
+    }
+
+    // Same values the status filters accept
+    abstract static class CaseStatusMixin {
+        @JsonValue
+        abstract String getDisplayName();
+    }
+
+    abstract static class EntitlementMixin {
+        @JsonProperty("allowsCaseCreation")
+        abstract boolean allowsCaseCreation();
+    }
+}
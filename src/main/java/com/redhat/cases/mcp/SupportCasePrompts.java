@@ -9,7 +9,8 @@ import io.quarkiverse.mcp.server.TextContent;
 
 import jakarta.inject.Inject;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * MCP Prompts for Red Hat Support - Conversational guides and workflows.
@@ -19,23 +20,16 @@ import java.util.List;
  * - troubleshootingGuide: Guide to diagnose and manage existing cases
  * - clusterDiagnosticGuide: OpenShift cluster diagnostics with escalation workflow
  * - executiveSummary: Get an overview of all support cases
+ *
+ * Templates are compiled once; rendering fills placeholders with the prompt arguments
+ * and, when recent enough, live data already in the case cache (see {@link PromptLiveData}).
  */
 public class SupportCasePrompts {
 
-    @Inject
-    SupportCaseService caseService;
-
-    @Prompt(description = "Interactive guide to create a new Red Hat support case with all required information")
-    PromptMessage createCaseGuide(
-            @PromptArg(description = "Red Hat product (e.g. OpenShift, RHEL)", defaultValue = "OpenShift") String product) {
-
-        List<String> products = caseService.getProducts();
-        String productList = String.join(", ", products);
-
-        String guide = String.format("""
+    private static final PromptTemplate CREATE_CASE_GUIDE = PromptTemplate.compile("""
             # Guide: Create a Red Hat Support Case
 
-            ## Product: %s
+            ## Product: {{product}}
 
             ### Required Information
 
@@ -64,8 +58,8 @@ public class SupportCasePrompts {
 
             ```
             1. listProducts                           # Find your product
-            2. listVersions productCode='%s'          # Get available versions
-            3. createCase title='...' description='...' product='%s' version='...' priority='NORMAL'
+            2. listVersions productCode='{{product}}'          # Get available versions
+            3. createCase title='...' description='...' product='{{product}}' version='...' priority='NORMAL'
             ```
 
             ### Example
@@ -83,25 +77,18 @@ public class SupportCasePrompts {
             ```
 
             ### Available Products
-            %s
+            {{products}}
 
             Ready to create your case? Start with `listProducts` to verify the product name.
-            """, product, product, product, productList);
-
-        return PromptMessage.withUserRole(new TextContent(guide));
-    }
-
-    @Prompt(description = "Guide to diagnose, update and manage an existing support case")
-    PromptMessage troubleshootingGuide(
-            @PromptArg(description = "Case number to troubleshoot") String caseNumber) {
-
-        String guide = String.format("""
-            # Guide: Manage Support Case %s
+            """);
 
+    private static final PromptTemplate TROUBLESHOOTING_GUIDE = PromptTemplate.compile("""
+            # Guide: Manage Support Case {{caseNumber}}
+            {{caseStatus}}
             ## Step 1: Review Current Status
 
             ```
-            getCase caseNumber='%s'
+            getCase caseNumber='{{caseNumber}}'
             ```
 
             This shows: status, priority, description, comments history, and assigned contact.
@@ -111,13 +98,13 @@ public class SupportCasePrompts {
             ### Add Information
             Provide logs, screenshots, or additional details:
             ```
-            addComment caseNumber='%s' comment='...' author='your-name'
+            addComment caseNumber='{{caseNumber}}' comment='...' author='your-name'
             ```
 
             ### Change Status
             Update the case status:
             ```
-            updateCase caseNumber='%s' status='Waiting on Customer'
+            updateCase caseNumber='{{caseNumber}}' status='Waiting on Customer'
             ```
 
             Valid statuses:
@@ -128,13 +115,13 @@ public class SupportCasePrompts {
             ### Reassign Contact
             Change the primary contact:
             ```
-            updateCase caseNumber='%s' contactSSOName='new-user-sso'
+            updateCase caseNumber='{{caseNumber}}' contactSSOName='new-user-sso'
             ```
 
             ### Reopen Closed Case
             If the issue recurs:
             ```
-            updateCase caseNumber='%s' status='Waiting on Red Hat'
+            updateCase caseNumber='{{caseNumber}}' status='Waiting on Red Hat'
             ```
 
             ## Best Practices
@@ -150,18 +137,11 @@ public class SupportCasePrompts {
             - Get statistics: `getStatistics`
             - Create new case: `createCase`
 
-            What would you like to do with case %s?
-            """, caseNumber, caseNumber, caseNumber, caseNumber, caseNumber, caseNumber, caseNumber);
-
-        return PromptMessage.withUserRole(new TextContent(guide));
-    }
+            What would you like to do with case {{caseNumber}}?
+            """);
 
-    @Prompt(description = "Comprehensive guide for diagnosing OpenShift cluster issues and escalating to Red Hat support when needed")
-    PromptMessage clusterDiagnosticGuide(
-            @PromptArg(description = "Cluster name or identifier", defaultValue = "production") String clusterName) {
-
-        String guide = String.format("""
-            # OpenShift Cluster Diagnostic Guide: %s
+    private static final PromptTemplate CLUSTER_DIAGNOSTIC_GUIDE = PromptTemplate.compile("""
+            # OpenShift Cluster Diagnostic Guide: {{clusterName}}
 
             ## Phase 1: Initial Assessment
 
@@ -211,9 +191,9 @@ public class SupportCasePrompts {
 
             ```
             createCase
-              title="[%s] Brief problem description"
+              title="[{{clusterName}}] Brief problem description"
               description="
-                Cluster: %s
+                Cluster: {{clusterName}}
                 OpenShift Version: X.Y.Z
 
                 PROBLEM:
@@ -253,18 +233,13 @@ public class SupportCasePrompts {
             - Add info: `addComment caseNumber='...' comment='...' author='...'`
             - Statistics: `getStatistics`
 
-            What issue are you experiencing with cluster %s?
-            """, clusterName, clusterName, clusterName, clusterName);
-
-        return PromptMessage.withUserRole(new TextContent(guide));
-    }
+            What issue are you experiencing with cluster {{clusterName}}?
+            """);
 
-    @Prompt(description = "Get an executive summary of all support cases with statistics and key metrics")
-    PromptMessage executiveSummary() {
-        String guide = """
+    private static final PromptTemplate EXECUTIVE_SUMMARY = PromptTemplate.compile("""
             # Executive Summary: Support Cases
 
-            ## Get Overview
+            {{urgentCases}}## Get Overview
 
             ### 1. Statistics Dashboard
             ```
@@ -315,8 +290,58 @@ public class SupportCasePrompts {
             4. Track trends weekly
 
             What information would you like to see first?
-            """;
+            """);
+
+    @Inject
+    SupportCaseService caseService;
+
+    @Inject
+    PromptLiveData liveData;
+
+    @Prompt(description = "Interactive guide to create a new Red Hat support case with all required information")
+    PromptMessage createCaseGuide(
+            @PromptArg(description = "Red Hat product (e.g. OpenShift, RHEL)", defaultValue = "OpenShift") String product) {
+
+        String products = liveData.entitledProducts()
+            .orElseGet(() -> String.join(", ", caseService.getProducts()));
+
+        return PromptMessage.withUserRole(new TextContent(CREATE_CASE_GUIDE.render(args(
+            "product", product,
+            "products", products))));
+    }
+
+    @Prompt(description = "Guide to diagnose, update and manage an existing support case")
+    PromptMessage troubleshootingGuide(
+            @PromptArg(description = "Case number to troubleshoot") String caseNumber) {
+
+        return PromptMessage.withUserRole(new TextContent(TROUBLESHOOTING_GUIDE.render(args(
+            "caseNumber", caseNumber,
+            "caseStatus", liveData.caseStatus(caseNumber).orElse("")))));
+    }
+
+    @Prompt(description = "Comprehensive guide for diagnosing OpenShift cluster issues and escalating to Red Hat support when needed")
+    PromptMessage clusterDiagnosticGuide(
+            @PromptArg(description = "Cluster name or identifier", defaultValue = "production") String clusterName) {
+
+        return PromptMessage.withUserRole(new TextContent(CLUSTER_DIAGNOSTIC_GUIDE.render(args(
+            "clusterName", clusterName))));
+    }
+
+    @Prompt(description = "Get an executive summary of all support cases with statistics and key metrics")
+    PromptMessage executiveSummary() {
+        return PromptMessage.withUserRole(new TextContent(EXECUTIVE_SUMMARY.render(args(
+            "urgentCases", liveData.urgentCases().map(section -> section + "\n").orElse("")))));
+    }
 
-        return PromptMessage.withUserRole(new TextContent(guide));
+    /**
+     * Template values from name/value pairs. Prompt arguments may be missing (null), which
+     * {@link PromptTemplate#render} renders as empty text, so this map accepts null values.
+     */
+    private static Map<String, String> args(String... namesAndValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            values.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return values;
     }
 }
@@ -0,0 +1,291 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.client.CircuitOpenException;
+import com.redhat.cases.client.DeadlineExceededException;
+import com.redhat.cases.client.QuotaExceededException;
+import com.redhat.cases.client.RateLimitExceededException;
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.dto.EntitlementDto;
+import com.redhat.cases.dto.ProductDto;
+import com.redhat.cases.model.CaseComment;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.CaseCache;
+import com.redhat.cases.service.ProductService;
+import com.redhat.cases.service.SupportCaseService;
+
+import io.quarkiverse.mcp.server.McpConnection;
+import io.quarkiverse.mcp.server.RequestUri;
+import io.quarkiverse.mcp.server.Resource;
+import io.quarkiverse.mcp.server.ResourceManager;
+import io.quarkiverse.mcp.server.ResourceResponse;
+import io.quarkiverse.mcp.server.ResourceTemplate;
+import io.quarkiverse.mcp.server.TextResourceContents;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * MCP Resources for Red Hat Support.
+ *
+ * Available resources:
+ * - redhat://products: Product catalog for case creation
+ * - redhat://entitlements: Subscriptions of the account and whether they allow case creation
+ * - case://{caseNumber}: Case details, without comments
+ * - case://{caseNumber}/comments: Comment history of a case
+ *
+ * All are served from the case cache, so clients can re-read them cheaply instead of
+ * re-invoking tools. Reads that reach the Red Hat API are charged to the connection's quota and
+ * bounded by the tool deadline, like tool calls. resources/subscribe needs a concrete resource, so successfully reading an
+ * existing case through the template also registers its case:// resources; subscribers are
+ * notified when the case is changed through this server or the case watcher detects a change.
+ * Cases registered by reads are capped (least recently read are removed first); cases the
+ * watcher tracks stay registered until it stops tracking them.
+ */
+@ApplicationScoped
+public class SupportCaseResources {
+
+    static final String PRODUCTS_URI = "redhat://products";
+    static final String ENTITLEMENTS_URI = "redhat://entitlements";
+
+    private static final String CASE_URI_PREFIX = "case://";
+    private static final String COMMENTS_SUFFIX = "/comments";
+    private static final String NOT_CONFIGURED = "Service is not configured. Set the REDHAT_TOKEN environment variable.";
+
+    @Inject
+    SupportCaseService caseService;
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    ResourceManager resourceManager;
+
+    @Inject
+    RedHatApiConfig config;
+
+    @Inject
+    RequestBudget budget;
+
+    // Cases registered by template reads, least recently read first; guarded by this
+    private final Map<String, Boolean> read = new LinkedHashMap<>(16, 0.75f, true);
+    // Cases registered because the case watcher tracks them; guarded by this
+    private final Set<String> watched = new HashSet<>();
+
+    @Resource(uri = PRODUCTS_URI, mimeType = "text/plain",
+            description = "Active Red Hat products available for case creation, with their codes")
+    TextResourceContents products(McpConnection connection) {
+        String text = render(connection, PRODUCTS_URI, productService::isConfigured, () -> {
+            List<ProductDto> products = productService.getProducts();
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Red Hat Products (").append(products.size()).append(") ===\n\n");
+            for (ProductDto p : products) {
+                sb.append("- ").append(p.getName()).append(" [code: ").append(p.getCode()).append("]");
+                if (p.getLine() != null && !p.getLine().isBlank()) {
+                    sb.append(" (").append(p.getLine()).append(")");
+                }
+                sb.append("\n");
+            }
+            return sb.toString();
+        });
+        return TextResourceContents.create(PRODUCTS_URI, text);
+    }
+
+    @Resource(uri = ENTITLEMENTS_URI, mimeType = "text/plain",
+            description = "Subscriptions of the account and whether each allows creating support cases")
+    TextResourceContents entitlements(McpConnection connection) {
+        String text = render(connection, ENTITLEMENTS_URI, caseService::isConfigured, () -> {
+            List<EntitlementDto> entitlements = caseService.getEntitlements();
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Red Hat Entitlements (").append(entitlements.size()).append(") ===\n\n");
+            for (EntitlementDto e : entitlements) {
+                sb.append(e.allowsCaseCreation() ? "[support] " : "[self-support] ").append(e).append("\n");
+            }
+            return sb.toString();
+        });
+        return TextResourceContents.create(ENTITLEMENTS_URI, text);
+    }
+
+    @ResourceTemplate(uriTemplate = CASE_URI_PREFIX + "{caseNumber}", mimeType = "text/plain",
+            description = "Details of a Red Hat support case (comments are in case://{caseNumber}/comments)")
+    TextResourceContents caseDetails(String caseNumber, RequestUri uri, McpConnection connection) {
+        return TextResourceContents.create(uri.value(),
+            render(connection, uri.value(), caseService::isConfigured, () -> renderCase(caseNumber, true)));
+    }
+
+    @ResourceTemplate(uriTemplate = CASE_URI_PREFIX + "{caseNumber}" + COMMENTS_SUFFIX, mimeType = "text/plain",
+            description = "Comment history of a Red Hat support case, oldest first")
+    TextResourceContents caseComments(String caseNumber, RequestUri uri, McpConnection connection) {
+        return TextResourceContents.create(uri.value(),
+            render(connection, uri.value(), caseService::isConfigured, () -> renderComments(caseNumber, true)));
+    }
+
+    static String caseUri(String caseNumber) {
+        return CASE_URI_PREFIX + caseNumber;
+    }
+
+    static String commentsUri(String caseNumber) {
+        return CASE_URI_PREFIX + caseNumber + COMMENTS_SUFFIX;
+    }
+
+    /**
+     * Registers the concrete case:// resources of a case read through a template, evicting the
+     * least recently read cases beyond redhat.api.watcher.max-case-resources.
+     */
+    synchronized void register(String caseNumber) {
+        addResources(caseNumber);
+        read.put(caseNumber, Boolean.TRUE);
+        Iterator<String> oldest = read.keySet().iterator();
+        while (read.size() > config.watcher().maxCaseResources()) {
+            String evicted = oldest.next();
+            oldest.remove();
+            if (!watched.contains(evicted)) {
+                removeResources(evicted);
+            }
+        }
+    }
+
+    /**
+     * Registers the concrete case:// resources of a case the watcher starts tracking; they are
+     * kept regardless of the cap until {@link #unwatched(String)}.
+     */
+    synchronized void watched(String caseNumber) {
+        watched.add(caseNumber);
+        addResources(caseNumber);
+    }
+
+    /**
+     * Removes the case:// resources of a case the watcher no longer tracks, unless it is still
+     * among the recently read cases.
+     */
+    synchronized void unwatched(String caseNumber) {
+        if (watched.remove(caseNumber) && !read.containsKey(caseNumber)) {
+            removeResources(caseNumber);
+        }
+    }
+
+    private void addResources(String caseNumber) {
+        String caseUri = caseUri(caseNumber);
+        if (resourceManager.getResource(caseUri) == null) {
+            resourceManager.newResource("case-" + caseNumber)
+                .setUri(caseUri)
+                .setMimeType("text/plain")
+                .setDescription("Red Hat support case " + caseNumber)
+                .setHandler(args -> caseResponse(args.connection(), caseUri, () -> renderCase(caseNumber, false)))
+                .register();
+        }
+        String commentsUri = commentsUri(caseNumber);
+        if (resourceManager.getResource(commentsUri) == null) {
+            resourceManager.newResource("case-" + caseNumber + "-comments")
+                .setUri(commentsUri)
+                .setMimeType("text/plain")
+                .setDescription("Comments of Red Hat support case " + caseNumber)
+                .setHandler(args -> caseResponse(args.connection(), commentsUri, () -> renderComments(caseNumber, false)))
+                .register();
+        }
+    }
+
+    private void removeResources(String caseNumber) {
+        resourceManager.removeResource(caseUri(caseNumber));
+        resourceManager.removeResource(commentsUri(caseNumber));
+    }
+
+    /**
+     * Sends resources/updated for a case to subscribed clients, if its resources are registered.
+     */
+    void notifyChanged(String caseNumber) {
+        for (String uri : List.of(caseUri(caseNumber), commentsUri(caseNumber))) {
+            ResourceManager.ResourceInfo resource = resourceManager.getResource(uri);
+            if (resource != null) {
+                resource.sendUpdateAndForget();
+            }
+        }
+    }
+
+    private ResourceResponse caseResponse(McpConnection connection, String uri, Supplier<String> body) {
+        return new ResourceResponse(List.of(
+            TextResourceContents.create(uri, render(connection, uri, caseService::isConfigured, body))));
+    }
+
+    /**
+     * Case details; a case that exists (or is still cached while the API is unavailable) has its
+     * case:// resources registered when {@code registerIfFound}, without fetching it again.
+     */
+    private String renderCase(String caseNumber, boolean registerIfFound) {
+        Optional<String> text;
+        try {
+            text = caseService.getCase(caseNumber).map(SupportCase::toHeaderString);
+        } catch (CircuitOpenException e) {
+            text = caseService.getStaleCase(caseNumber)
+                .map(entry -> ApiNotices.stale(e, entry) + entry.value().toHeaderString());
+            if (text.isEmpty()) {
+                throw e;
+            }
+        }
+        if (text.isEmpty()) {
+            return "Case not found: " + caseNumber;
+        }
+        if (registerIfFound) {
+            register(caseNumber);
+        }
+        return text.get();
+    }
+
+    /**
+     * Comment history; the API only returns comments of an existing case, so a successful read
+     * registers its case:// resources when {@code registerIfFound}.
+     */
+    private String renderComments(String caseNumber, boolean registerIfFound) {
+        List<CaseComment> comments;
+        String notice = "";
+        try {
+            comments = caseService.getComments(caseNumber);
+        } catch (CircuitOpenException e) {
+            CaseCache.Entry<List<CaseComment>> stale = caseService.getStaleComments(caseNumber, null)
+                .orElseThrow(() -> e);
+            comments = stale.value();
+            notice = ApiNotices.stale(e, stale);
+        }
+        if (registerIfFound) {
+            register(caseNumber);
+        }
+        StringBuilder sb = new StringBuilder(notice);
+        sb.append("=== Comments for case ").append(caseNumber)
+            .append(" (").append(comments.size()).append(") ===\n\n");
+        for (CaseComment comment : comments) {
+            sb.append(comment).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders a resource through {@link RequestBudget}, like a tool call: charged to the
+     * connection's quota and bounded by the tool deadline. API failures the client can act on
+     * are rendered as notices.
+     */
+    private String render(McpConnection connection, String uri, BooleanSupplier configured, Supplier<String> body) {
+        if (!configured.getAsBoolean()) {
+            return NOT_CONFIGURED;
+        }
+        try {
+            return budget.run(connection, body);
+        } catch (CircuitOpenException e) {
+            return "ERROR: " + ApiNotices.unavailable(e);
+        } catch (QuotaExceededException e) {
+            return "ERROR: " + ApiNotices.quotaExceeded(e);
+        } catch (RateLimitExceededException e) {
+            return "ERROR: " + ApiNotices.rateLimited(e);
+        } catch (DeadlineExceededException e) {
+            return "ERROR: " + ApiNotices.timedOut("Reading " + uri, budget.deadlineSeconds());
+        }
+    }
+}
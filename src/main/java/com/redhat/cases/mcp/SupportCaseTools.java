@@ -1,38 +1,66 @@
 package com.redhat.cases.mcp;
 
+import com.redhat.cases.client.CircuitOpenException;
+import com.redhat.cases.client.ConnectionQuotas;
+import com.redhat.cases.client.DeadlineExceededException;
+import com.redhat.cases.client.QuotaExceededException;
+import com.redhat.cases.client.RateLimitExceededException;
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.service.CaseCache;
 import com.redhat.cases.service.ProductService;
 import com.redhat.cases.service.SupportCaseService;
+import com.redhat.cases.model.CaseComment;
 import com.redhat.cases.model.SupportCase;
 import com.redhat.cases.dto.AccountInfoDto;
 import com.redhat.cases.dto.EntitlementDto;
 import com.redhat.cases.dto.ProductDto;
 import com.redhat.cases.dto.VersionDto;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.quarkiverse.mcp.server.McpConnection;
 import io.quarkiverse.mcp.server.TextContent;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
 import io.quarkiverse.mcp.server.ToolResponse;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * MCP Tools for Red Hat Support Case Management.
  *
- * This server provides 10 tools organized in 3 categories:
+ * This server provides 14 tools organized in 3 categories:
  *
  * ACCOUNT:
  * - getAccountInfo: Verify API connection and view account details
  * - getEntitlements: View subscriptions and which products allow case creation
+ * - getUsage: View this connection's usage and quotas
  *
  * CASE MANAGEMENT:
  * - createCase: Open a new support case (requires product and version)
  * - getCase: Get full details of a specific case by number
+ * - getComments: Get case comments, optionally only those newer than a timestamp
+ * - watchCase / unwatchCase: Get notified through the case:// resource when a case changes
  * - searchCases: List and filter cases (open/closed, by priority, product, status)
  * - updateCase: Change case status (reopen, close) or reassign contact
  * - addComment: Add information or updates to an existing case
@@ -51,13 +79,46 @@ public class SupportCaseTools {
     @Inject
     ProductService productService;
 
+    @Inject
+    RedHatApiConfig config;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Tracer tracer;
+
+    @Inject
+    ConnectionQuotas quotas;
+
+    @Inject
+    RequestBudget budget;
+
+    @Inject
+    CaseWatcher caseWatcher;
+
+    @Inject
+    SupportCaseResources resources;
+
+    @Inject
+    StructuredResults structured;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("mcp.tool.calls.inflight", inFlight, AtomicInteger::get)
+            .description("MCP tool calls in progress")
+            .register(registry);
+    }
+
     // ========== ACCOUNT ==========
 
     @Tool(description = "Verify Red Hat API connection and get account information. " +
             "Use this first to confirm the service is configured correctly. " +
             "Returns: account name, number, status, region and country.")
-    Uni<ToolResponse> getAccountInfo() {
-        return Uni.createFrom().item(() -> {
+    Uni<ToolResponse> getAccountInfo(McpConnection connection) {
+        return invoke("getAccountInfo", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Set the REDHAT_TOKEN environment variable with your access token.\n" +
                        "You can generate a token at: https://access.redhat.com/management/api");
@@ -87,7 +148,7 @@ public class SupportCaseTools {
 
                 return ToolResponse.success(new TextContent(sb.toString()));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR connecting to Red Hat API: " + e.getMessage());
+                return apiError("ERROR connecting to Red Hat API: ", e);
             }
         });
     }
@@ -97,14 +158,26 @@ public class SupportCaseTools {
             "Important: Only products with PREMIUM, STANDARD, or similar support levels " +
             "(not SELF-SUPPORTED) can be used to create support cases. " +
             "Use this BEFORE createCase to know which products are available.")
-    Uni<ToolResponse> getEntitlements() {
-        return Uni.createFrom().item(() -> {
+    Uni<ToolResponse> getEntitlements(
+            @ToolArg(description = "Response format: 'text' (default) or 'json' for structured content", defaultValue = "text") String format,
+            McpConnection connection) {
+        return invoke("getEntitlements", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Set the REDHAT_TOKEN environment variable.");
             }
 
+            boolean json;
+            try {
+                json = ResponseFormat.parse(format, ResponseFormat.TEXT, ResponseFormat.JSON) == ResponseFormat.JSON;
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage());
+            }
+
             try {
                 List<EntitlementDto> entitlements = caseService.getEntitlements();
+                if (json) {
+                    return structured.success(new StructuredResults.Entitlements(entitlements), connection);
+                }
 
                 if (entitlements.isEmpty()) {
                     return ToolResponse.success(new TextContent(
@@ -152,11 +225,40 @@ public class SupportCaseTools {
 
                 return ToolResponse.success(new TextContent(sb.toString()));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR getting entitlements: " + e.getMessage());
+                return apiError("ERROR getting entitlements: ", e);
             }
         });
     }
 
+    @Tool(description = "Show how much this MCP connection has used the server: tool calls, " +
+            "Red Hat API requests, time spent waiting for them, bytes received and calls rejected by quota. " +
+            "Also shows the per-connection quotas. Use it when calls are rejected with a quota error.")
+    Uni<ToolResponse> getUsage(McpConnection connection) {
+        return invoke("getUsage", connection, () -> {
+            // invoke() registers the connection, so its usage is always present here
+            ConnectionQuotas.Usage usage = quotas.usage(connection.id()).orElseThrow();
+            RedHatApiConfig.ConnectionQuota quota = config.connectionQuota();
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("=== Connection Usage ===\n\n");
+            sb.append("Tool calls: ").append(usage.toolCalls())
+                .append(" (").append(usage.toolTime().toMillis()).append(" ms)\n");
+            sb.append("Red Hat API requests: ").append(usage.apiRequests())
+                .append(" (").append(usage.apiTime().toMillis()).append(" ms)\n");
+            sb.append("Bytes received: ").append(usage.bytesReceived()).append("\n");
+            sb.append("Rejected by quota: ").append(usage.rejected()).append("\n\n");
+            if (quota.enabled()) {
+                sb.append("Quotas: ").append(quota.toolCallsPerMinute()).append(" tool calls/min (burst ")
+                    .append(quota.toolCallsBurst()).append("), ").append(quota.apiRequestsPerMinute())
+                    .append(" API requests/min (burst ").append(quota.apiRequestsBurst()).append(")");
+            } else {
+                sb.append("Quotas: disabled");
+            }
+
+            return ToolResponse.success(new TextContent(sb.toString()));
+        });
+    }
+
     // ========== CASE MANAGEMENT ==========
 
     @Tool(description = "Create a new Red Hat support case. " +
@@ -170,9 +272,10 @@ public class SupportCaseTools {
             @ToolArg(description = "Exact product name from listProducts (e.g. 'OpenShift Container Platform')") String product,
             @ToolArg(description = "Product version from listVersions (e.g. '4.14', '9.3')") String version,
             @ToolArg(description = "Case priority: LOW (questions), NORMAL (affecting operations), HIGH (critical functionality), URGENT (production down)", defaultValue = "NORMAL") String priority,
-            @ToolArg(description = "Reporter email address", defaultValue = "") String reporter) {
+            @ToolArg(description = "Reporter email address", defaultValue = "") String reporter,
+            McpConnection connection) {
 
-        return Uni.createFrom().item(() -> {
+        return invoke("createCase", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
@@ -195,26 +298,149 @@ public class SupportCaseTools {
                 return ToolResponse.success(new TextContent(
                     String.format("Case created successfully:\n%s", newCase.toDetailedString())));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR creating case: " + e.getMessage());
+                return apiError("ERROR creating case: ", e);
             }
         });
     }
 
     @Tool(description = "Get complete details of a support case by its number. " +
             "Returns: case status, priority, product, version, description, comments history, dates, and assigned contact. " +
+            "Long comment histories are paged: pass the returned cursor to get the next comments. " +
             "Example: getCase caseNumber='03881234'")
-    Uni<ToolResponse> getCase(@ToolArg(description = "8-digit Red Hat case number (e.g. '03881234')") String caseNumber) {
-        return Uni.createFrom().item(() -> {
+    Uni<ToolResponse> getCase(
+            @ToolArg(description = "8-digit Red Hat case number (e.g. '03881234')") String caseNumber,
+            @ToolArg(description = "Continuation cursor from a previous getCase response", defaultValue = "") String cursor,
+            @ToolArg(description = "Response format: 'text' (default) or 'json' for structured content", defaultValue = "text") String format,
+            McpConnection connection) {
+        return invoke("getCase", connection, () -> {
+            if (!caseService.isConfigured()) {
+                return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
+            }
+
+            boolean json;
+            try {
+                json = ResponseFormat.parse(format, ResponseFormat.TEXT, ResponseFormat.JSON) == ResponseFormat.JSON;
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage());
+            }
+
+            int offset;
+            try {
+                offset = ResponsePages.offset(commentsScope(caseNumber), cursor);
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage() + ". Use the cursor returned by getCase for this case.");
+            }
+
+            try {
+                return caseService.getCase(caseNumber)
+                        .map(c -> json
+                            ? caseDetails(c, offset, null, connection)
+                            : ToolResponse.success(new TextContent(casePage(c, offset, "", config.responses().maxChars()))))
+                        .orElse(ToolResponse.error("Case not found: " + caseNumber));
+            } catch (CircuitOpenException e) {
+                return caseService.getStaleCase(caseNumber)
+                        .map(entry -> json
+                            ? caseDetails(entry.value(), offset, entry.fetchedAt(), connection)
+                            : ToolResponse.success(new TextContent(
+                                casePage(entry.value(), offset, ApiNotices.stale(e, entry), config.responses().maxChars()))))
+                        .orElse(ToolResponse.error("ERROR: " + ApiNotices.unavailable(e)));
+            }
+        });
+    }
+
+    @Tool(description = "Get the comments of a support case, oldest first. " +
+            "Use 'since' to get only comments newer than a timestamp, e.g. when following up on a case. " +
+            "When more comments are available, the response ends with a cursor for the next call. " +
+            "Example: getComments caseNumber='03881234' since='2025-01-31T10:00:00Z'")
+    Uni<ToolResponse> getComments(
+            @ToolArg(description = "8-digit Red Hat case number") String caseNumber,
+            @ToolArg(description = "Only comments created after this ISO-8601 timestamp or date (e.g. '2025-01-31T10:00:00Z' or '2025-01-31')", defaultValue = "") String since,
+            @ToolArg(description = "Maximum number of comments to return (default: 20)", defaultValue = "20") int limit,
+            @ToolArg(description = "Continuation cursor from a previous getComments response with the same since value", defaultValue = "") String cursor,
+            McpConnection connection) {
+        return invoke("getComments", connection, () -> {
+            if (!caseService.isConfigured()) {
+                return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
+            }
+            if (limit < 1) {
+                return ToolResponse.error("limit must be at least 1.");
+            }
+
+            Instant after;
+            try {
+                after = parseSince(since);
+            } catch (DateTimeParseException e) {
+                return ToolResponse.error("Invalid since value: '" + since + "'. Use an ISO-8601 timestamp " +
+                    "(e.g. '2025-01-31T10:00:00Z') or date (e.g. '2025-01-31').");
+            }
+            int offset;
+            try {
+                offset = ResponsePages.offset(commentsSinceScope(caseNumber, since), cursor);
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage() + ". Use the cursor returned by getComments with the same since value.");
+            }
+
+            String notice = "";
+            List<CaseComment> comments;
+            try {
+                comments = caseService.getComments(caseNumber, after);
+            } catch (CircuitOpenException e) {
+                Optional<CaseCache.Entry<List<CaseComment>>> stale = caseService.getStaleComments(caseNumber, after);
+                if (stale.isEmpty()) {
+                    return ToolResponse.error("ERROR: " + ApiNotices.unavailable(e));
+                }
+                notice = ApiNotices.stale(e, stale.get());
+                comments = stale.get().value();
+            } catch (Exception e) {
+                return apiError("ERROR retrieving comments: ", e);
+            }
+
+            if (comments.isEmpty()) {
+                return ToolResponse.success(new TextContent(notice + "No comments" +
+                    (after != null ? " since " + since : "") + " in case " + caseNumber + "."));
+            }
+            return ToolResponse.success(new TextContent(
+                commentsPage(caseNumber, since, comments, offset, limit, notice, config.responses().maxChars())));
+        });
+    }
+
+    @Tool(description = "Watch a support case for changes instead of polling getCase. " +
+            "The server checks all watched cases with one shared poll and exposes the case as the " +
+            "resource case://<caseNumber>: subscribe to it to be notified when it changes, and read it for the latest details. " +
+            "Example: watchCase caseNumber='03881234'")
+    Uni<ToolResponse> watchCase(
+            @ToolArg(description = "8-digit Red Hat case number") String caseNumber,
+            McpConnection connection) {
+        return invoke("watchCase", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
 
-            return caseService.getCase(caseNumber)
-                    .map(c -> ToolResponse.success(new TextContent(c.toDetailedString())))
-                    .orElse(ToolResponse.error("Case not found: " + caseNumber));
+            try {
+                // The watcher's baseline must be current, not a cached copy
+                Optional<SupportCase> supportCase = caseService.refreshCase(caseNumber);
+                if (supportCase.isEmpty()) {
+                    return ToolResponse.error("Case not found: " + caseNumber);
+                }
+                boolean added = caseWatcher.watch(supportCase.get(), connection);
+                return ToolResponse.success(new TextContent(String.format(
+                    "%s case %s. Subscribe to resource %s to be notified of changes; read it for the latest details.",
+                    added ? "Watching" : "Already watching", caseNumber, SupportCaseResources.caseUri(caseNumber))));
+            } catch (Exception e) {
+                return apiError("ERROR watching case: ", e);
+            }
         });
     }
 
+    @Tool(description = "Stop watching a support case previously watched with watchCase.")
+    Uni<ToolResponse> unwatchCase(
+            @ToolArg(description = "8-digit Red Hat case number") String caseNumber,
+            McpConnection connection) {
+        return invoke("unwatchCase", connection, () -> caseWatcher.unwatch(caseNumber, connection)
+            ? ToolResponse.success(new TextContent("Stopped watching case " + caseNumber + "."))
+            : ToolResponse.error("Case " + caseNumber + " is not being watched by this connection."));
+    }
+
     @Tool(description = "Search and list support cases with optional filters. " +
             "Without filters: lists all open cases. " +
             "Filters: query (text search), status, priority, product, includeClosed. " +
@@ -223,36 +449,101 @@ public class SupportCaseTools {
             "- List ALL cases: searchCases includeClosed=true " +
             "- Find urgent cases: searchCases priority='URGENT' " +
             "- Find by product: searchCases product='OpenShift' " +
-            "- Search by text: searchCases query='authentication error'")
+            "- Search by text: searchCases query='authentication error' " +
+            "Large result sets are paged: repeat the call with the same filters and the returned cursor. " +
+            "For large listings use format='compact': one row per case, with statuses and products " +
+            "replaced by codes explained in the legend after the table.")
     Uni<ToolResponse> searchCases(
             @ToolArg(description = "Text to search in title, description or case number", defaultValue = "") String query,
             @ToolArg(description = "Filter by status: 'Waiting on Red Hat', 'Waiting on Customer', 'Closed'", defaultValue = "") String status,
             @ToolArg(description = "Filter by priority: LOW, NORMAL, HIGH, URGENT", defaultValue = "") String priority,
             @ToolArg(description = "Filter by product name (e.g. 'OpenShift', 'RHEL')", defaultValue = "") String product,
-            @ToolArg(description = "Include closed cases (default: false, only shows open cases)", defaultValue = "false") boolean includeClosed) {
-
-        return Uni.createFrom().item(() -> {
+            @ToolArg(description = "Include closed cases (default: false, only shows open cases)", defaultValue = "false") boolean includeClosed,
+            @ToolArg(description = "Continuation cursor from a previous searchCases response", defaultValue = "") String cursor,
+            @ToolArg(description = "Response format: 'text' (default), 'json' for structured content, " +
+                "or 'compact' for a token-efficient table of large result sets", defaultValue = "text") String format,
+            @ToolArg(description = "Comma-separated columns for the compact format: id, title, status, priority, product, " +
+                "version, component, assignee, created, updated (default: id,status,priority,product,updated,title)",
+                defaultValue = "") String fields,
+            McpConnection connection) {
+
+        return invoke("searchCases", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
 
-            List<SupportCase> results = caseService.searchCases(query, status, priority, product, includeClosed);
+            ResponseFormat responseFormat;
+            List<CompactCaseTable.Field> columns;
+            try {
+                responseFormat = ResponseFormat.parse(format, ResponseFormat.TEXT, ResponseFormat.JSON, ResponseFormat.COMPACT);
+                columns = CompactCaseTable.parseFields(fields);
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage());
+            }
+
+            String scope = "search/" + Integer.toHexString(Objects.hash(query, status, priority, product, includeClosed));
+            int offset;
+            try {
+                offset = ResponsePages.offset(scope, cursor);
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage() + ". Use the cursor returned by searchCases with the same filters.");
+            }
+
+            String notice = "";
+            Instant staleSince = null;
+            List<SupportCase> results;
+            try {
+                results = caseService.searchCases(query, status, priority, product, includeClosed);
+            } catch (CircuitOpenException e) {
+                Optional<CaseCache.Entry<List<SupportCase>>> stale =
+                    caseService.getStaleSearch(query, status, priority, product, includeClosed);
+                if (stale.isEmpty()) {
+                    return ToolResponse.error("ERROR: " + ApiNotices.unavailable(e));
+                }
+                notice = ApiNotices.stale(e, stale.get());
+                staleSince = stale.get().fetchedAt();
+                results = stale.get().value();
+            }
+
+            if (responseFormat == ResponseFormat.JSON) {
+                int start = Math.min(offset, results.size());
+                int next = Math.min(start + config.responses().maxItems(), results.size());
+                return structured.success(new StructuredResults.CaseList(staleSince, results.size(), start,
+                    next < results.size() ? ResponsePages.cursor(scope, next) : null, results.subList(start, next)), connection);
+            }
 
             if (results.isEmpty()) {
                 String msg = (query.isEmpty() && status.isEmpty() && priority.isEmpty() && product.isEmpty())
                     ? (includeClosed ? "No support cases in this account." : "No active support cases in this account.")
                     : "No cases found with the specified criteria.";
-                return ToolResponse.success(new TextContent(msg));
+                return ToolResponse.success(new TextContent(notice + msg));
             }
 
-            StringBuilder sb = new StringBuilder();
+            int maxChars = config.responses().maxChars();
+            int start = Math.min(offset, results.size());
+            boolean compact = responseFormat == ResponseFormat.COMPACT;
+            StringBuilder sb = compact
+                ? new StringBuilder(CompactCaseTable.capacity(results.size() - start, columns, maxChars)).append(notice)
+                : new StringBuilder(notice);
             String title = (query.isEmpty() && status.isEmpty() && priority.isEmpty() && product.isEmpty())
                 ? (includeClosed ? "All Cases" : "Active Cases")
                 : "Search Results";
-            sb.append("=== ").append(title).append(" (").append(results.size()).append(") ===\n\n");
+            sb.append("=== ").append(title).append(" (").append(results.size()).append(") ===\n");
+            if (!compact) {
+                sb.append("\n");
+            }
 
-            for (SupportCase c : results) {
-                sb.append(c.toString()).append("\n");
+            int next = compact
+                ? CompactCaseTable.render(sb, results, start, columns, maxChars)
+                : ResponsePages.appendPage(sb, results, start, maxChars, SupportCase::toString);
+            if (start > 0 || next < results.size()) {
+                sb.append("\nShowing results ").append(start + 1).append("-").append(next)
+                    .append(" of ").append(results.size()).append(".");
+                if (next < results.size()) {
+                    sb.append(" More results: call searchCases with the same arguments and cursor='")
+                        .append(ResponsePages.cursor(scope, next)).append("'");
+                }
+                sb.append("\n");
             }
 
             return ToolResponse.success(new TextContent(sb.toString()));
@@ -269,9 +560,10 @@ public class SupportCaseTools {
     Uni<ToolResponse> updateCase(
             @ToolArg(description = "8-digit Red Hat case number") String caseNumber,
             @ToolArg(description = "New status: 'Waiting on Red Hat' (reopen), 'Waiting on Customer', 'Closed'", defaultValue = "") String status,
-            @ToolArg(description = "SSO username of new primary contact", defaultValue = "") String contactSSOName) {
+            @ToolArg(description = "SSO username of new primary contact", defaultValue = "") String contactSSOName,
+            McpConnection connection) {
 
-        return Uni.createFrom().item(() -> {
+        return invoke("updateCase", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
@@ -298,11 +590,13 @@ public class SupportCaseTools {
                 }
 
                 return result
-                    .map(c -> ToolResponse.success(new TextContent(
-                        String.format("Case updated successfully:\n%s", c.toDetailedString()))))
+                    .map(c -> {
+                        resources.notifyChanged(caseNumber);
+                        return ToolResponse.success(new TextContent(casePage(c, 0, "Case updated successfully:\n", config.responses().maxChars())));
+                    })
                     .orElse(ToolResponse.error("Could not update the case. Verify that the case number is valid."));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR updating case: " + e.getMessage());
+                return apiError("ERROR updating case: ", e);
             }
         });
     }
@@ -314,16 +608,20 @@ public class SupportCaseTools {
             @ToolArg(description = "8-digit Red Hat case number") String caseNumber,
             @ToolArg(description = "Comment text: additional details, logs, or response to support") String comment,
             @ToolArg(description = "Your name or identifier") String author,
-            @ToolArg(description = "Internal comment not visible to customer (default: false)", defaultValue = "false") boolean isInternal) {
+            @ToolArg(description = "Internal comment not visible to customer (default: false)", defaultValue = "false") boolean isInternal,
+            McpConnection connection) {
 
-        return Uni.createFrom().item(() -> {
+        return invoke("addComment", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
 
             return caseService.addComment(caseNumber, author, comment, isInternal)
-                    .map(c -> ToolResponse.success(new TextContent(
-                        String.format("Comment added successfully to case %s", caseNumber))))
+                    .map(c -> {
+                        resources.notifyChanged(caseNumber);
+                        return ToolResponse.success(new TextContent(
+                            String.format("Comment added successfully to case %s", caseNumber)));
+                    })
                     .orElse(ToolResponse.error("Could not add comment. Verify that the case exists."));
         });
     }
@@ -331,45 +629,44 @@ public class SupportCaseTools {
     @Tool(description = "Get statistics and metrics for support cases. " +
             "Returns: total cases, urgent open cases, distribution by status, priority, and product. " +
             "Useful for dashboards and executive summaries.")
-    Uni<ToolResponse> getStatistics() {
-        return Uni.createFrom().item(() -> {
+    Uni<ToolResponse> getStatistics(
+            @ToolArg(description = "Response format: 'text' (default) or 'json' for structured content", defaultValue = "text") String format,
+            McpConnection connection) {
+        return invoke("getStatistics", connection, () -> {
             if (!caseService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
 
-            Map<String, Object> stats = caseService.getStatistics();
-
-            if (stats.containsKey("error")) {
-                return ToolResponse.error("ERROR: " + stats.get("error"));
+            boolean json;
+            try {
+                json = ResponseFormat.parse(format, ResponseFormat.TEXT, ResponseFormat.JSON) == ResponseFormat.JSON;
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage());
             }
 
-            StringBuilder sb = new StringBuilder();
-            sb.append("=== Red Hat Case Statistics ===\n\n");
-            sb.append("Total cases: ").append(stats.get("total")).append("\n");
-            sb.append("Open urgent cases: ").append(stats.get("urgentOpen")).append("\n\n");
-
-            sb.append("By Status:\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Long> byStatus = (Map<String, Long>) stats.get("byStatus");
-            if (byStatus != null) {
-                byStatus.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+            String notice = "";
+            Instant staleSince = null;
+            Map<String, Object> stats;
+            try {
+                stats = caseService.getStatistics();
+            } catch (CircuitOpenException e) {
+                Optional<CaseCache.Entry<Map<String, Object>>> stale = caseService.getStaleStatistics();
+                if (stale.isEmpty()) {
+                    return ToolResponse.error("ERROR: " + ApiNotices.unavailable(e));
+                }
+                notice = ApiNotices.stale(e, stale.get());
+                staleSince = stale.get().fetchedAt();
+                stats = stale.get().value();
             }
 
-            sb.append("\nBy Priority:\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Long> byPriority = (Map<String, Long>) stats.get("byPriority");
-            if (byPriority != null) {
-                byPriority.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+            if (stats.containsKey("error")) {
+                return ToolResponse.error("ERROR: " + stats.get("error"));
             }
-
-            sb.append("\nBy Product:\n");
-            @SuppressWarnings("unchecked")
-            Map<String, Long> byProduct = (Map<String, Long>) stats.get("byProduct");
-            if (byProduct != null) {
-                byProduct.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+            if (json) {
+                return structured.success(new StructuredResults.Statistics(staleSince, stats), connection);
             }
 
-            return ToolResponse.success(new TextContent(sb.toString()));
+            return ToolResponse.success(new TextContent(statisticsText(notice, stats)));
         });
     }
 
@@ -378,14 +675,26 @@ public class SupportCaseTools {
     @Tool(description = "List all Red Hat products available for creating support cases. " +
             "Returns product names and codes. Use the exact product NAME when creating a case. " +
             "After finding your product, use listVersions to get available versions.")
-    Uni<ToolResponse> listProducts() {
-        return Uni.createFrom().item(() -> {
+    Uni<ToolResponse> listProducts(
+            @ToolArg(description = "Response format: 'text' (default) or 'json' for structured content", defaultValue = "text") String format,
+            McpConnection connection) {
+        return invoke("listProducts", connection, () -> {
             if (!productService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
 
+            boolean json;
+            try {
+                json = ResponseFormat.parse(format, ResponseFormat.TEXT, ResponseFormat.JSON) == ResponseFormat.JSON;
+            } catch (IllegalArgumentException e) {
+                return ToolResponse.error(e.getMessage());
+            }
+
             try {
                 List<ProductDto> products = productService.getProducts();
+                if (json) {
+                    return structured.success(new StructuredResults.Products(products), connection);
+                }
 
                 if (products.isEmpty()) {
                     return ToolResponse.success(new TextContent("No products available."));
@@ -407,7 +716,7 @@ public class SupportCaseTools {
 
                 return ToolResponse.success(new TextContent(sb.toString()));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR getting products: " + e.getMessage());
+                return apiError("ERROR getting products: ", e);
             }
         });
     }
@@ -416,8 +725,9 @@ public class SupportCaseTools {
             "Use after listProducts to get valid versions for case creation. " +
             "Example: listVersions productCode='OpenShift Container Platform'")
     Uni<ToolResponse> listVersions(
-            @ToolArg(description = "Product code from listProducts") String productCode) {
-        return Uni.createFrom().item(() -> {
+            @ToolArg(description = "Product code from listProducts") String productCode,
+            McpConnection connection) {
+        return invoke("listVersions", connection, () -> {
             if (!productService.isConfigured()) {
                 return ToolResponse.error("Service is not configured. Use getAccountInfo to verify the configuration.");
             }
@@ -451,9 +761,206 @@ public class SupportCaseTools {
 
                 return ToolResponse.success(new TextContent(sb.toString()));
             } catch (Exception e) {
-                return ToolResponse.error("ERROR getting versions: " + e.getMessage());
+                return apiError("ERROR getting versions: ", e);
             }
         });
     }
 
+    // ========== HELPERS ==========
+
+    /**
+     * Runs a tool body through {@link RequestBudget}: under the tool deadline, so all its upstream
+     * calls share one latency budget, and accounted to its connection, rejected when it is over quota.
+     * Each call is timed in {@code mcp.tool.calls} tagged by tool and outcome, and traced
+     * in a span tagged with the MCP connection id that parents the upstream API spans.
+     * Tool bodies block (rate limiter waits, retry backoff, HTTP calls), so they run on a
+     * worker thread rather than on the event loop that delivers the MCP request.
+     */
+    private Uni<ToolResponse> invoke(String tool, McpConnection connection, Supplier<ToolResponse> body) {
+        return Uni.createFrom().item(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            inFlight.incrementAndGet();
+            String outcome = "exception";
+            Span span = tracer.spanBuilder("tools/call " + tool)
+                .setAttribute("mcp.tool.name", tool)
+                .setAttribute("mcp.connection.id", connection.id())
+                .startSpan();
+            try (Scope scope = span.makeCurrent()) {
+                ToolResponse response = budget.run(connection, body);
+                outcome = response.isError() ? "error" : "success";
+                if (response.isError()) {
+                    span.setStatus(StatusCode.ERROR);
+                }
+                return response;
+            } catch (QuotaExceededException e) {
+                outcome = "quota";
+                span.setStatus(StatusCode.ERROR, e.getMessage());
+                return ToolResponse.error("ERROR: " + ApiNotices.quotaExceeded(e));
+            } catch (RateLimitExceededException e) {
+                outcome = "ratelimit";
+                span.setStatus(StatusCode.ERROR, e.getMessage());
+                return ToolResponse.error("ERROR: " + ApiNotices.rateLimited(e));
+            } catch (DeadlineExceededException e) {
+                outcome = "deadline";
+                span.setStatus(StatusCode.ERROR, e.getMessage());
+                return ToolResponse.error("ERROR: " + ApiNotices.timedOut(tool, budget.deadlineSeconds()));
+            } catch (RuntimeException e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.end();
+                inFlight.decrementAndGet();
+                sample.stop(Timer.builder("mcp.tool.calls")
+                    .description("MCP tool invocations")
+                    .publishPercentileHistogram()
+                    .tag("tool", tool)
+                    .tag("outcome", outcome)
+                    .register(registry));
+            }
+        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Error response for a tool body whose Red Hat API call failed. Quota, rate limit and deadline
+     * rejections are rethrown instead, so that {@link #invoke} reports them and records their outcome.
+     */
+    private static ToolResponse apiError(String message, Exception e) {
+        if (e instanceof QuotaExceededException || e instanceof RateLimitExceededException
+                || e instanceof DeadlineExceededException) {
+            throw (RuntimeException) e;
+        }
+        return ToolResponse.error(message + e.getMessage());
+    }
+
+    /**
+     * Parses an ISO-8601 instant or date (start of day, local time); blank means no lower bound.
+     */
+    private static Instant parseSince(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        String value = since.trim();
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+        return Instant.parse(value);
+    }
+
+    /**
+     * Text rendering of {@link SupportCaseService#getStatistics()}.
+     */
+    static String statisticsText(String notice, Map<String, Object> stats) {
+        StringBuilder sb = new StringBuilder(notice);
+        sb.append("=== Red Hat Case Statistics ===\n\n");
+        sb.append("Total cases: ").append(stats.get("total")).append("\n");
+        sb.append("Open urgent cases: ").append(stats.get("urgentOpen")).append("\n\n");
+
+        sb.append("By Status:\n");
+        @SuppressWarnings("unchecked")
+        Map<String, Long> byStatus = (Map<String, Long>) stats.get("byStatus");
+        if (byStatus != null) {
+            byStatus.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+        }
+
+        sb.append("\nBy Priority:\n");
+        @SuppressWarnings("unchecked")
+        Map<String, Long> byPriority = (Map<String, Long>) stats.get("byPriority");
+        if (byPriority != null) {
+            byPriority.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+        }
+
+        sb.append("\nBy Product:\n");
+        @SuppressWarnings("unchecked")
+        Map<String, Long> byProduct = (Map<String, Long>) stats.get("byProduct");
+        if (byProduct != null) {
+            byProduct.forEach((k, v) -> sb.append("  - ").append(k).append(": ").append(v).append("\n"));
+        }
+
+        return sb.toString();
+    }
+
+    private static String commentsScope(String caseNumber) {
+        return "comments/" + caseNumber;
+    }
+
+    // Offsets are only valid within the same since filter: the history is append-only, oldest first
+    private static String commentsSinceScope(String caseNumber, String since) {
+        return commentsScope(caseNumber) + "?since=" + (since != null ? since.trim() : "");
+    }
+
+    /**
+     * Up to {@code limit} comments from {@code offset} that fit in the response budget, with a
+     * cursor for the rest. Paging by position rather than by timestamp keeps comments created
+     * in the same second as the last one shown.
+     */
+    static String commentsPage(String caseNumber, String since, List<CaseComment> comments, int offset, int limit,
+                               String prefix, int maxChars) {
+        boolean filtered = since != null && !since.isBlank();
+        StringBuilder sb = new StringBuilder(prefix);
+        sb.append("=== Comments for case ").append(caseNumber)
+            .append(filtered ? " since " + since : "")
+            .append(" (").append(comments.size()).append(") ===\n\n");
+
+        int start = Math.min(offset, comments.size());
+        List<CaseComment> page = comments.subList(start, Math.min(start + limit, comments.size()));
+        int next = start + ResponsePages.appendPage(sb, page, 0, maxChars, CaseComment::toString);
+        if (start > 0 || next < comments.size()) {
+            sb.append("\nShowing comments ").append(start + 1).append("-").append(next)
+                .append(" of ").append(comments.size()).append(".");
+            if (next < comments.size()) {
+                sb.append(" Next page: getComments caseNumber='").append(caseNumber).append("'");
+                if (filtered) {
+                    sb.append(" since='").append(since.trim()).append("'");
+                }
+                sb.append(" cursor='").append(ResponsePages.cursor(commentsSinceScope(caseNumber, since), next)).append("'");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Case details followed by as many comments as fit in the response budget, starting at
+     * {@code offset}, with a cursor for the rest. Continuation pages omit the case details.
+     */
+    static String casePage(SupportCase c, int offset, String prefix, int maxChars) {
+        StringBuilder sb = new StringBuilder(prefix);
+        if (offset == 0) {
+            sb.append(c.toHeaderString());
+        } else {
+            sb.append("=== Case: ").append(c.id()).append(" (continued) ===\n");
+        }
+
+        List<CaseComment> comments = c.comments();
+        if (comments.isEmpty()) {
+            return sb.toString();
+        }
+
+        int start = Math.min(offset, comments.size());
+        sb.append("\n--- Comments (").append(comments.size()).append(") ---\n");
+        int next = ResponsePages.appendPage(sb, comments, start, maxChars, CaseComment::toString);
+        if (start > 0 || next < comments.size()) {
+            sb.append("\nShowing comments ").append(start + 1).append("-").append(next)
+                .append(" of ").append(comments.size()).append(".");
+            if (next < comments.size()) {
+                sb.append(" More comments: call getCase caseNumber='").append(c.id())
+                    .append("' cursor='").append(ResponsePages.cursor(commentsScope(c.id()), next)).append("'");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Structured counterpart of {@link #casePage}: the case with one page of comments, paged by item count.
+     */
+    private ToolResponse caseDetails(SupportCase c, int offset, Instant staleSince, McpConnection connection) {
+        List<CaseComment> comments = c.comments();
+        int start = Math.min(offset, comments.size());
+        int next = Math.min(start + config.responses().maxItems(), comments.size());
+        return structured.success(new StructuredResults.CaseDetails(staleSince, c, comments.size(), start,
+            next < comments.size() ? ResponsePages.cursor(commentsScope(c.id()), next) : null,
+            comments.subList(start, next)), connection);
+    }
 }
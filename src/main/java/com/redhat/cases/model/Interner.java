@@ -0,0 +1,78 @@
+package com.redhat.cases.model;
+
+/**
+ * Bounded pool of canonical strings for low-cardinality case fields (product, version, component,
+ * case type...).
+ *
+ * Cases parsed from different API responses share one instance of each value. The pool is a
+ * fixed-size table indexed by hash: a value that collides with another replaces it, so the pool
+ * never grows and frequent values stay in it. Lookups from a character buffer only create a
+ * String when the value is not pooled yet.
+ *
+ * Slots are written without synchronization: Strings are safely published, so a racing thread
+ * at worst misses a value and keeps its own copy.
+ */
+public final class Interner {
+
+    private static final int SLOTS = 1 << 12;
+    private static final int MAX_LENGTH = 64;
+
+    private static final String[] POOL = new String[SLOTS];
+
+    private Interner() {
+    }
+
+    /**
+     * Canonical instance of {@code value}; null and values longer than 64 characters are returned as they are.
+     */
+    public static String intern(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String pooled = POOL[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        POOL[slot] = value;
+        return value;
+    }
+
+    /**
+     * Canonical String with the given characters (for instance, a JSON parser's text buffer).
+     */
+    public static String intern(char[] buffer, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(buffer, offset, length);
+        }
+        // Same hash as String.hashCode(), so both lookups find the same slot
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + buffer[i];
+        }
+        int slot = slot(h);
+        String pooled = POOL[slot];
+        if (pooled != null && matches(pooled, buffer, offset, length)) {
+            return pooled;
+        }
+        String value = new String(buffer, offset, length);
+        POOL[slot] = value;
+        return value;
+    }
+
+    private static boolean matches(String pooled, char[] buffer, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int slot(int h) {
+        return (h ^ (h >>> 16)) & (SLOTS - 1);
+    }
+}
@@ -0,0 +1,226 @@
+package com.redhat.cases.service;
+
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.dto.EntitlementDto;
+import com.redhat.cases.dto.ProductDto;
+import com.redhat.cases.model.CaseComment;
+import com.redhat.cases.model.SupportCase;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory cache of cases, case listings, comment histories and reference data
+ * (product catalog and entitlements).
+ * Entries younger than the fresh TTL are served instead of calling the API;
+ * older entries are kept (up to the stale TTL) as a fallback while the API is unavailable.
+ */
+@ApplicationScoped
+public class CaseCache {
+
+    /**
+     * A cached value and the moment it was fetched from the API.
+     */
+    public record Entry<T>(T value, Instant fetchedAt) {
+
+        public Duration age() {
+            return Duration.between(fetchedAt, Instant.now());
+        }
+
+        boolean isYoungerThan(int seconds) {
+            return age().compareTo(Duration.ofSeconds(seconds)) < 0;
+        }
+    }
+
+    private final RedHatApiConfig.Cache config;
+    private final Map<String, Entry<SupportCase>> cases;
+    private final Map<String, Entry<List<SupportCase>>> listings;
+    private final Map<String, Entry<CommentHistory>> comments;
+    private volatile Entry<List<ProductDto>> products;
+    private volatile Entry<List<EntitlementDto>> entitlements;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public CaseCache(RedHatApiConfig config, MeterRegistry registry) {
+        this.config = config.cache();
+        this.cases = lruMap(this.config.maxEntries());
+        this.listings = lruMap(Math.max(16, this.config.maxEntries() / 10));
+        this.comments = lruMap(this.config.maxEntries());
+
+        Gauge.builder("redhat.cases.cache.hit.ratio", this, CaseCache::hitRatio)
+            .description("Share of case reads served from the cache")
+            .register(registry);
+        Gauge.builder("redhat.cases.cache.size", this, c -> c.size())
+            .description("Cases held in the cache")
+            .register(registry);
+    }
+
+    /**
+     * Ratio of fresh lookups served from memory since startup (0 when there were no lookups).
+     */
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public int size() {
+        synchronized (cases) {
+            return cases.size();
+        }
+    }
+
+    public Optional<SupportCase> freshCase(String caseNumber) {
+        return fresh(cases, caseNumber);
+    }
+
+    public Optional<Entry<SupportCase>> staleCase(String caseNumber) {
+        return stale(cases, caseNumber);
+    }
+
+    public void putCase(SupportCase supportCase) {
+        if (supportCase.id() == null) {
+            return;
+        }
+        synchronized (cases) {
+            cases.put(supportCase.id(), new Entry<>(supportCase, Instant.now()));
+        }
+    }
+
+    public Optional<List<SupportCase>> freshListing(String key) {
+        return fresh(listings, key);
+    }
+
+    public Optional<Entry<List<SupportCase>>> staleListing(String key) {
+        return stale(listings, key);
+    }
+
+    public void putListing(String key, List<SupportCase> cases) {
+        synchronized (listings) {
+            listings.put(key, new Entry<>(List.copyOf(cases), Instant.now()));
+        }
+    }
+
+    /**
+     * Comments of a case in creation order, and the creation time of the newest one
+     * (the point from which the next incremental refresh asks for new comments).
+     */
+    public record CommentHistory(List<CaseComment> comments, Instant newest) {
+    }
+
+    public Optional<CommentHistory> freshComments(String caseNumber) {
+        return fresh(comments, caseNumber);
+    }
+
+    public Optional<Entry<CommentHistory>> staleComments(String caseNumber) {
+        return stale(comments, caseNumber);
+    }
+
+    /**
+     * Last known comment history regardless of age, used as the base of an incremental refresh.
+     */
+    public Optional<CommentHistory> knownComments(String caseNumber) {
+        synchronized (comments) {
+            return Optional.ofNullable(comments.get(caseNumber)).map(Entry::value);
+        }
+    }
+
+    public void putComments(String caseNumber, CommentHistory history) {
+        synchronized (comments) {
+            comments.put(caseNumber, new Entry<>(history, Instant.now()));
+        }
+    }
+
+    public Optional<List<ProductDto>> freshProducts() {
+        return freshReference(products);
+    }
+
+    public void putProducts(List<ProductDto> products) {
+        this.products = new Entry<>(List.copyOf(products), Instant.now());
+    }
+
+    public Optional<List<EntitlementDto>> freshEntitlements() {
+        return freshReference(entitlements);
+    }
+
+    /**
+     * Last fetched entitlements regardless of age.
+     */
+    public Optional<Entry<List<EntitlementDto>>> cachedEntitlements() {
+        return Optional.ofNullable(entitlements);
+    }
+
+    public void putEntitlements(List<EntitlementDto> entitlements) {
+        this.entitlements = new Entry<>(List.copyOf(entitlements), Instant.now());
+    }
+
+    /**
+     * Drops a case and every listing, so the next read reflects a change made through this server.
+     * The comment history is kept as the base for an incremental refresh but is no longer fresh.
+     */
+    public void invalidate(String caseNumber) {
+        synchronized (cases) {
+            cases.remove(caseNumber);
+        }
+        synchronized (comments) {
+            comments.computeIfPresent(caseNumber, (k, e) -> new Entry<>(e.value(), Instant.EPOCH));
+        }
+        synchronized (listings) {
+            listings.clear();
+        }
+    }
+
+    private <T> Optional<T> fresh(Map<String, Entry<T>> map, String key) {
+        Entry<T> entry;
+        synchronized (map) {
+            entry = map.get(key);
+        }
+        if (entry == null || !entry.isYoungerThan(config.freshSeconds())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value());
+    }
+
+    private <T> Optional<T> freshReference(Entry<T> entry) {
+        if (entry == null || !entry.isYoungerThan(config.referenceSeconds())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value());
+    }
+
+    private <T> Optional<Entry<T>> stale(Map<String, Entry<T>> map, String key) {
+        Entry<T> entry;
+        synchronized (map) {
+            entry = map.get(key);
+        }
+        if (entry == null || !entry.isYoungerThan(config.staleSeconds())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    private static <T> Map<String, Entry<T>> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
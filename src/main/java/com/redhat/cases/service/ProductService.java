@@ -12,6 +12,7 @@ import jakarta.inject.Inject;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Application service for Red Hat product information.
@@ -23,12 +24,15 @@ public class ProductService {
     private final RedHatApiConfig config;
     private final HydraClient hydraClient;
     private final RedHatAuthClient authClient;
+    private final CaseCache caseCache;
 
     @Inject
-    public ProductService(RedHatApiConfig config, HydraClient hydraClient, RedHatAuthClient authClient) {
+    public ProductService(RedHatApiConfig config, HydraClient hydraClient, RedHatAuthClient authClient,
+                          CaseCache caseCache) {
         this.config = config;
         this.hydraClient = hydraClient;
         this.authClient = authClient;
+        this.caseCache = caseCache;
     }
 
     /**
@@ -41,6 +45,7 @@ public class ProductService {
     /**
      * Gets all available Red Hat products for case creation.
      * Only returns active products, sorted by product line and name.
+     * The catalog is cached for the reference-data TTL.
      *
      * @return List of available products
      */
@@ -49,14 +54,19 @@ public class ProductService {
             return Collections.emptyList();
         }
 
-        List<ProductDto> products = hydraClient.getProducts();
+        Optional<List<ProductDto>> cached = caseCache.freshProducts();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        return products.stream()
+        List<ProductDto> products = hydraClient.getProducts().stream()
             .filter(p -> Boolean.TRUE.equals(p.getActive()))
             .sorted(Comparator
                 .comparing((ProductDto p) -> p.getLine() != null ? p.getLine() : "")
                 .thenComparing(ProductDto::getName))
             .toList();
+        caseCache.putProducts(products);
+        return products;
     }
 
     /**
@@ -7,12 +7,16 @@ import com.redhat.cases.client.RedHatCasesClient;
 import com.redhat.cases.dto.*;
 import com.redhat.cases.dto.EntitlementDto;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -25,12 +29,17 @@ public class SupportCaseService {
     private final RedHatApiConfig config;
     private final RedHatCasesClient casesClient;
     private final RedHatAuthClient authClient;
+    private final CaseCache caseCache;
+    private final Tracer tracer;
 
     @Inject
-    public SupportCaseService(RedHatApiConfig config, RedHatCasesClient casesClient, RedHatAuthClient authClient) {
+    public SupportCaseService(RedHatApiConfig config, RedHatCasesClient casesClient, RedHatAuthClient authClient,
+                              CaseCache caseCache, Tracer tracer) {
         this.config = config;
         this.casesClient = casesClient;
         this.authClient = authClient;
+        this.caseCache = caseCache;
+        this.tracer = tracer;
     }
 
     /**
@@ -57,22 +66,52 @@ public class SupportCaseService {
         request.setSeverity(mapPriorityToSeverity(priority));
 
         CaseDetailDto created = casesClient.createCase(request);
-        return mapToSupportCase(created);
+        SupportCase supportCase = traceMapping(1, () -> mapToSupportCase(created));
+        caseCache.invalidate(supportCase.id());
+        caseCache.putCase(supportCase);
+        return supportCase;
     }
 
     /**
      * Gets a case by number.
+     * Served from the case cache when it was fetched within the fresh TTL.
      */
     public Optional<SupportCase> getCase(String caseNumber) {
         if (!isConfigured()) {
             return Optional.empty();
         }
 
+        Optional<SupportCase> cached = caseCache.freshCase(caseNumber);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return refreshCase(caseNumber);
+    }
+
+    /**
+     * Gets a case from the API, bypassing the fresh cache, and caches it.
+     * Used where a copy up to the fresh TTL old is not good enough, e.g. as the case watcher's baseline.
+     */
+    public Optional<SupportCase> refreshCase(String caseNumber) {
+        if (!isConfigured()) {
+            return Optional.empty();
+        }
+
         CaseDetailDto detail = casesClient.getCase(caseNumber);
         if (detail == null) {
             return Optional.empty();
         }
-        return Optional.of(mapToSupportCase(detail));
+        SupportCase supportCase = traceMapping(1, () -> mapToSupportCase(detail));
+        caseCache.putCase(supportCase);
+        return Optional.of(supportCase);
+    }
+
+    /**
+     * Gets the last known copy of a case, regardless of freshness.
+     * Used as a fallback while the Cases API is unavailable.
+     */
+    public Optional<CaseCache.Entry<SupportCase>> getStaleCase(String caseNumber) {
+        return caseCache.staleCase(caseNumber);
     }
 
     /**
@@ -89,14 +128,7 @@ public class SupportCaseService {
         filter.setSortField(config.cases().defaultSortField());
         filter.setSortOrder(config.cases().defaultSortOrder());
 
-        CaseListResponseDto response = casesClient.listCases(filter);
-        if (response == null || response.getCases() == null) {
-            return Collections.emptyList();
-        }
-
-        return response.getCases().stream()
-            .map(this::mapToSupportCase)
-            .collect(Collectors.toList());
+        return fetchListing(listingKey(null, null, null, null, includeClosed), filter);
     }
 
     /**
@@ -132,15 +164,96 @@ public class SupportCaseService {
             filter.setProduct(product);
         }
 
+        List<SupportCase> cases = fetchListing(listingKey(query, status, priority, product, includeClosed), filter);
+        return sortByPriority(cases);
+    }
+
+    /**
+     * Gets the last known results of a search, regardless of freshness.
+     * Used as a fallback while the Cases API is unavailable.
+     */
+    public Optional<CaseCache.Entry<List<SupportCase>>> getStaleSearch(String query, String status, String priority,
+                                                                       String product, boolean includeClosed) {
+        return caseCache.staleListing(listingKey(query, status, priority, product, includeClosed))
+            .map(e -> new CaseCache.Entry<>(sortByPriority(e.value()), e.fetchedAt()));
+    }
+
+    /**
+     * Lists cases of the whole account (closed included), most recently modified first.
+     * Always calls the API: the case watcher uses it to detect changes with one request per poll.
+     */
+    public List<SupportCase> listRecentlyModified(int maxResults, int offset) {
+        if (!isConfigured()) {
+            return Collections.emptyList();
+        }
+
+        CaseFilterRequestDto filter = new CaseFilterRequestDto(maxResults);
+        filter.setOffset(offset > 0 ? offset : null);
+        filter.setIncludeClosed(true);
+        filter.setSortField("lastModifiedDate");
+        filter.setSortOrder("DESC");
+
+        CaseListResponseDto response = casesClient.listCases(filter);
+        if (response == null || response.getCases() == null) {
+            return Collections.emptyList();
+        }
+        return traceMapping(response.getCases().size(), () -> response.getCases().stream()
+            .map(this::mapToSupportCase)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Drops cached data of a case changed outside this server, so the next read fetches it again.
+     */
+    public void invalidateCase(String caseNumber) {
+        caseCache.invalidate(caseNumber);
+    }
+
+    /**
+     * Last fetched listing of open cases, without calling the API.
+     */
+    public Optional<CaseCache.Entry<List<SupportCase>>> getCachedOpenCases() {
+        return caseCache.staleListing(listingKey(null, null, null, null, false));
+    }
+
+    /**
+     * Last fetched entitlements, without calling the API.
+     */
+    public Optional<CaseCache.Entry<List<EntitlementDto>>> getCachedEntitlements() {
+        return caseCache.cachedEntitlements();
+    }
+
+    private List<SupportCase> fetchListing(String key, CaseFilterRequestDto filter) {
+        Optional<List<SupportCase>> cached = caseCache.freshListing(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         CaseListResponseDto response = casesClient.listCases(filter);
         if (response == null || response.getCases() == null) {
             return Collections.emptyList();
         }
 
-        return response.getCases().stream()
+        List<SupportCase> cases = traceMapping(response.getCases().size(), () -> response.getCases().stream()
             .map(this::mapToSupportCase)
-            .sorted(Comparator.comparing((SupportCase c) -> c.getPriority().getLevel())
-                .thenComparing(SupportCase::getUpdatedAt).reversed())
+            .collect(Collectors.toList()));
+        caseCache.putListing(key, cases);
+        return cases;
+    }
+
+    private static String listingKey(String query, String status, String priority, String product, boolean includeClosed) {
+        return String.join("|",
+            query != null ? query : "",
+            status != null ? status : "",
+            priority != null ? priority : "",
+            product != null ? product : "",
+            String.valueOf(includeClosed));
+    }
+
+    private static List<SupportCase> sortByPriority(List<SupportCase> cases) {
+        return cases.stream()
+            .sorted(Comparator.comparing((SupportCase c) -> c.priority().getLevel())
+                .thenComparing(SupportCase::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder())).reversed())
             .collect(Collectors.toList());
     }
 
@@ -156,10 +269,13 @@ public class SupportCaseService {
         request.setStatus(mapStatusToApi(newStatus));
 
         CaseDetailDto updated = casesClient.updateCase(caseNumber, request);
+        caseCache.invalidate(caseNumber);
         if (updated == null) {
             return Optional.empty();
         }
-        return Optional.of(mapToSupportCase(updated));
+        SupportCase supportCase = traceMapping(1, () -> mapToSupportCase(updated));
+        caseCache.putCase(supportCase);
+        return Optional.of(supportCase);
     }
 
     /**
@@ -172,6 +288,7 @@ public class SupportCaseService {
 
         AddCommentRequestDto request = new AddCommentRequestDto(content);
         casesClient.addComment(caseNumber, request);
+        caseCache.invalidate(caseNumber);
 
         return getCase(caseNumber);
     }
@@ -188,28 +305,91 @@ public class SupportCaseService {
         request.setContactSSOName(assignee);
 
         CaseDetailDto updated = casesClient.updateCase(caseNumber, request);
+        caseCache.invalidate(caseNumber);
         if (updated == null) {
             return Optional.empty();
         }
-        return Optional.of(mapToSupportCase(updated));
+        SupportCase supportCase = traceMapping(1, () -> mapToSupportCase(updated));
+        caseCache.putCase(supportCase);
+        return Optional.of(supportCase);
     }
 
     /**
      * Gets the comments of a case.
      */
     public List<CaseComment> getComments(String caseNumber) {
+        return getComments(caseNumber, null);
+    }
+
+    /**
+     * Gets the comments of a case created after {@code since} (all when null), oldest first.
+     * The history is cached per case; once known, only comments newer than the last one seen are fetched.
+     */
+    public List<CaseComment> getComments(String caseNumber, Instant since) {
         if (!isConfigured()) {
             return Collections.emptyList();
         }
+        return commentsAfter(commentHistory(caseNumber).comments(), since);
+    }
 
-        List<CaseCommentDto> comments = casesClient.getComments(caseNumber);
-        if (comments == null) {
-            return Collections.emptyList();
+    /**
+     * Last cached comments of a case created after {@code since}, for use while the API is unavailable.
+     */
+    public Optional<CaseCache.Entry<List<CaseComment>>> getStaleComments(String caseNumber, Instant since) {
+        return caseCache.staleComments(caseNumber)
+            .map(e -> new CaseCache.Entry<>(commentsAfter(e.value().comments(), since), e.fetchedAt()));
+    }
+
+    private CaseCache.CommentHistory commentHistory(String caseNumber) {
+        Optional<CaseCache.CommentHistory> fresh = caseCache.freshComments(caseNumber);
+        if (fresh.isPresent()) {
+            return fresh.get();
+        }
+
+        CaseCache.CommentHistory known = caseCache.knownComments(caseNumber)
+            .orElse(new CaseCache.CommentHistory(List.of(), null));
+        List<CaseCommentDto> fetched = casesClient.getComments(caseNumber, known.newest());
+        CaseCache.CommentHistory history = mergeComments(known, fetched != null ? fetched : List.of());
+        caseCache.putComments(caseNumber, history);
+        return history;
+    }
+
+    /**
+     * Appends fetched comments not already in the history. The API may return the
+     * comment at the start date again, so comments are matched by id.
+     */
+    private CaseCache.CommentHistory mergeComments(CaseCache.CommentHistory known, List<CaseCommentDto> fetched) {
+        Set<String> seen = known.comments().stream()
+            .map(CaseComment::id)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        List<CaseCommentDto> added = fetched.stream()
+            .filter(dto -> dto.getId() == null || !seen.contains(dto.getId()))
+            .sorted(Comparator.comparing(CaseCommentDto::getCreatedDate, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .toList();
+        if (added.isEmpty()) {
+            return known;
         }
 
+        List<CaseComment> comments = new ArrayList<>(known.comments());
+        Instant newest = known.newest();
+        for (CaseCommentDto dto : added) {
+            comments.add(mapToComment(dto));
+            if (dto.getCreatedDate() != null && (newest == null || dto.getCreatedDate().isAfter(newest))) {
+                newest = dto.getCreatedDate();
+            }
+        }
+        return new CaseCache.CommentHistory(List.copyOf(comments), newest);
+    }
+
+    private static List<CaseComment> commentsAfter(List<CaseComment> comments, Instant since) {
+        if (since == null) {
+            return comments;
+        }
         return comments.stream()
-            .map(this::mapToComment)
-            .collect(Collectors.toList());
+            .filter(c -> c.createdAt() != null && c.createdAt().isAfter(since))
+            .toList();
     }
 
     /**
@@ -223,17 +403,31 @@ public class SupportCaseService {
             return stats;
         }
 
-        List<SupportCase> allCases = listCases();
+        return computeStatistics(listCases());
+    }
+
+    /**
+     * Gets statistics computed from the last known list of open cases, regardless of freshness.
+     * Used as a fallback while the Cases API is unavailable.
+     */
+    public Optional<CaseCache.Entry<Map<String, Object>>> getStaleStatistics() {
+        return caseCache.staleListing(listingKey(null, null, null, null, false))
+            .map(e -> new CaseCache.Entry<>(computeStatistics(e.value()), e.fetchedAt()));
+    }
+
+    // Package-private for the benchmarks in src/jmh
+    Map<String, Object> computeStatistics(List<SupportCase> allCases) {
+        Map<String, Object> stats = new LinkedHashMap<>();
 
         Map<String, Long> byStatus = allCases.stream()
-            .collect(Collectors.groupingBy(c -> c.getStatus().getDisplayName(), Collectors.counting()));
+            .collect(Collectors.groupingBy(c -> c.status().getDisplayName(), Collectors.counting()));
 
         Map<String, Long> byPriority = allCases.stream()
-            .collect(Collectors.groupingBy(c -> c.getPriority().getDisplayName(), Collectors.counting()));
+            .collect(Collectors.groupingBy(c -> c.priority().getDisplayName(), Collectors.counting()));
 
         Map<String, Long> byProduct = allCases.stream()
-            .filter(c -> c.getProduct() != null)
-            .collect(Collectors.groupingBy(SupportCase::getProduct, Collectors.counting()));
+            .filter(c -> c.product() != null)
+            .collect(Collectors.groupingBy(SupportCase::product, Collectors.counting()));
 
         stats.put("total", allCases.size());
         stats.put("byStatus", byStatus);
@@ -241,9 +435,9 @@ public class SupportCaseService {
         stats.put("byProduct", byProduct);
 
         long urgent = allCases.stream()
-            .filter(c -> c.getPriority() == CasePriority.URGENT &&
-                        c.getStatus() != CaseStatus.RESOLVED &&
-                        c.getStatus() != CaseStatus.CLOSED)
+            .filter(c -> c.priority() == CasePriority.URGENT &&
+                        c.status() != CaseStatus.RESOLVED &&
+                        c.status() != CaseStatus.CLOSED)
             .count();
         stats.put("urgentOpen", urgent);
 
@@ -275,95 +469,74 @@ public class SupportCaseService {
         if (!isConfigured()) {
             return Collections.emptyList();
         }
-        return casesClient.getEntitlements();
+        Optional<List<EntitlementDto>> cached = caseCache.freshEntitlements();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<EntitlementDto> entitlements = casesClient.getEntitlements();
+        if (entitlements == null) {
+            return Collections.emptyList();
+        }
+        caseCache.putEntitlements(entitlements);
+        return entitlements;
     }
 
     // ========== Mapping methods ==========
 
-    private SupportCase mapToSupportCase(CaseDetailDto detail) {
-        SupportCase c = new SupportCase();
-        c.setId(detail.getCaseNumber());
-        c.setTitle(detail.getSummary());
-        c.setDescription(detail.getDescription());
-        c.setProduct(detail.getProduct());
-        c.setVersion(detail.getVersion());
-        c.setReporter(detail.getContactSSOName());
-
-        c.setPriority(mapSeverityToPriority(detail.getSeverity()));
-        c.setStatus(mapApiStatusToEnum(detail.getStatus()));
-
-        if (detail.getCreatedDate() != null) {
-            c.setCreatedAt(LocalDateTime.ofInstant(detail.getCreatedDate(), ZoneId.systemDefault()));
-        }
-        if (detail.getLastModifiedDate() != null) {
-            c.setUpdatedAt(LocalDateTime.ofInstant(detail.getLastModifiedDate(), ZoneId.systemDefault()));
-        }
-
-        if (detail.getComments() != null) {
-            List<CaseComment> comments = detail.getComments().stream()
-                .map(this::mapToComment)
-                .collect(Collectors.toList());
-            c.setComments(comments);
+    /**
+     * Runs a DTO-to-domain mapping inside a span, one per API response rather than one per case.
+     */
+    private <T> T traceMapping(int caseCount, Supplier<T> mapping) {
+        Span span = tracer.spanBuilder("mapToSupportCase")
+            .setAttribute("redhat.cases.count", caseCount)
+            .startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            return mapping.get();
+        } finally {
+            span.end();
         }
+    }
 
-        return c;
+    // Package-private for the benchmarks in src/jmh
+    SupportCase mapToSupportCase(CaseDetailDto detail) {
+        List<CaseComment> comments = detail.getComments() != null
+            ? detail.getComments().stream().map(this::mapToComment).toList()
+            : null;
+
+        return new SupportCase(
+            detail.getCaseNumber(),
+            detail.getSummary(),
+            detail.getDescription(),
+            detail.getStatus(),
+            detail.getSeverity(),
+            detail.getProduct(),
+            detail.getVersion(),
+            null,
+            null,
+            detail.getContactSSOName(),
+            detail.getCreatedDate(),
+            detail.getLastModifiedDate(),
+            comments);
     }
 
     private CaseComment mapToComment(CaseCommentDto dto) {
-        CaseComment comment = new CaseComment();
-        comment.setId(dto.getId());
-        comment.setAuthor(dto.getCreatedBy());
-        comment.setContent(dto.getCommentBody());
-        if (dto.getCreatedDate() != null) {
-            comment.setCreatedAt(LocalDateTime.ofInstant(dto.getCreatedDate(), ZoneId.systemDefault()));
-        }
-        return comment;
+        return new CaseComment(dto.getId(), dto.getCreatedBy(), dto.getCommentBody(), dto.getCreatedDate(), false);
     }
 
+    // API responses are mapped to CaseStatus/CasePriority by Jackson (see ApiValues);
+    // tool arguments go through the same precomputed tables, without lowercasing or replacing
+
     private CasePriority mapSeverityToPriority(String severity) {
-        if (severity == null) return CasePriority.NORMAL;
-        return switch (severity.toLowerCase()) {
-            case "1 (urgent)", "urgent", "1" -> CasePriority.URGENT;
-            case "2 (high)", "high", "2" -> CasePriority.HIGH;
-            case "3 (normal)", "normal", "3" -> CasePriority.NORMAL;
-            case "4 (low)", "low", "4" -> CasePriority.LOW;
-            default -> CasePriority.NORMAL;
-        };
+        return ApiValues.SEVERITIES.get(severity, CasePriority.NORMAL);
     }
 
     private String mapPriorityToSeverity(String priority) {
-        if (priority == null) return "3 (Normal)";
-        return switch (priority.toUpperCase()) {
-            case "URGENT" -> "1 (Urgent)";
-            case "HIGH" -> "2 (High)";
-            case "NORMAL" -> "3 (Normal)";
-            case "LOW" -> "4 (Low)";
-            default -> "3 (Normal)";
-        };
-    }
-
-    private CaseStatus mapApiStatusToEnum(String status) {
-        if (status == null) return CaseStatus.NEW;
-        String normalized = status.toLowerCase().replace(" ", "_");
-        return switch (normalized) {
-            case "new", "waiting_on_red_hat" -> CaseStatus.NEW;
-            case "in_progress", "working" -> CaseStatus.IN_PROGRESS;
-            case "waiting_on_customer", "waiting_for_customer" -> CaseStatus.WAITING_CUSTOMER;
-            case "waiting_on_vendor", "waiting_on_engineering" -> CaseStatus.WAITING_VENDOR;
-            case "resolved", "solution_proposed" -> CaseStatus.RESOLVED;
-            case "closed" -> CaseStatus.CLOSED;
-            default -> CaseStatus.IN_PROGRESS;
-        };
+        return ApiValues.apiSeverity(mapSeverityToPriority(priority));
     }
 
     private String mapStatusToApi(String status) {
-        if (status == null) return "Waiting on Red Hat";
-        String normalized = status.toUpperCase().replace(" ", "_").replace("-", "_");
-        return switch (normalized) {
-            case "NEW", "IN_PROGRESS", "WAITING_ON_RED_HAT", "OPEN", "REOPEN", "REOPENED" -> "Waiting on Red Hat";
-            case "WAITING_CUSTOMER", "WAITING_ON_CUSTOMER" -> "Waiting on Customer";
-            case "CLOSED", "CLOSE" -> "Closed";
-            default -> status; // Pass through for direct API values like "Waiting on Red Hat"
-        };
+        if (status == null) return ApiValues.STATUS_WAITING_ON_RED_HAT;
+        // Pass through for direct API values like "Waiting on Red Hat"
+        return ApiValues.STATUS_INPUTS.get(status, status);
     }
 }
@@ -0,0 +1,290 @@
+package com.redhat.cases.client;
+
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.config.TestApiConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiRequestExecutorTest {
+
+    private static final String[] HEDGING = {
+        "hedging.enabled", "true",
+        "hedging.default-delay-millis", "100",
+        "hedging.min-delay-millis", "10"};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private StubApiServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new StubApiServer();
+    }
+
+    @AfterEach
+    void stop() {
+        server.close();
+    }
+
+    @Test
+    void retriesTransientErrorsOfIdempotentOperations() throws Exception {
+        server.reply(503).reply(502);
+
+        int status = executor().send(ApiOperation.GET_CASE, server.get("/cases/01234567")).statusCode();
+
+        assertEquals(200, status);
+        assertEquals(3, server.hits());
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentOperations() throws Exception {
+        server.reply(503);
+
+        int status = executor().send(ApiOperation.CREATE_CASE, server.post("/cases")).statusCode();
+
+        assertEquals(503, status);
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void stopsAfterMaxAttempts() throws Exception {
+        server.reply(500).reply(500).reply(500).reply(500);
+
+        int status = executor("retry.max-attempts", "3").send(ApiOperation.LIST_CASES, server.post("/cases/filter"))
+            .statusCode();
+
+        assertEquals(500, status);
+        assertEquals(3, server.hits());
+    }
+
+    @Test
+    void stopsWhenBackoffWouldExceedBudget() throws Exception {
+        server.reply(503);
+
+        int status = executor("retry.budget-seconds", "0").send(ApiOperation.GET_CASE, server.get("/cases/01234567"))
+            .statusCode();
+
+        assertEquals(503, status);
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void disabledRetriesSendOnce() throws Exception {
+        server.reply(503);
+
+        int status = executor("retry.enabled", "false").send(ApiOperation.GET_CASE, server.get("/cases/01234567"))
+            .statusCode();
+
+        assertEquals(503, status);
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() throws Exception {
+        server.reply(404);
+
+        int status = executor().send(ApiOperation.GET_CASE, server.get("/cases/00000000")).statusCode();
+
+        assertEquals(404, status);
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void throttledRequestsAreRetriedEvenIfNotIdempotent() throws Exception {
+        server.reply(429, Map.of("Retry-After", "0"), 0);
+
+        int status = executor().send(ApiOperation.ADD_COMMENT, server.post("/cases/01234567/comments")).statusCode();
+
+        assertEquals(200, status);
+        assertEquals(2, server.hits());
+    }
+
+    @Test
+    void connectionFailuresAreRethrownWhenRetriesAreExhausted() {
+        HttpRequest request = server.get("/cases/01234567");
+        server.close();
+
+        assertThrows(IOException.class, () -> executor().send(ApiOperation.GET_CASE, request));
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutCallingTheApi() throws Exception {
+        ApiRequestExecutor executor = executor("retry.enabled", "false", "circuit-breaker.failure-threshold", "2");
+        server.reply(503).reply(503);
+
+        executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+        executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+
+        assertEquals(CircuitBreaker.State.OPEN, executor.circuitState(ApiEndpoint.CASES));
+        assertThrows(CircuitOpenException.class, () -> executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567")));
+        assertEquals(2, server.hits());
+    }
+
+    @Test
+    void expiredDeadlineFailsBeforeSending() {
+        assertThrows(DeadlineExceededException.class, () -> withDeadline(Duration.ZERO,
+            () -> executor().send(ApiOperation.GET_CASE, server.get("/cases/01234567"))));
+        assertEquals(0, server.hits());
+    }
+
+    @Test
+    void deadlineBoundsSlowRequestsAndRetries() {
+        server.reply(200, Map.of(), 3000);
+
+        long start = System.nanoTime();
+        Exception e = assertThrows(Exception.class, () -> withDeadline(Duration.ofMillis(300),
+            () -> executor().send(ApiOperation.GET_CASE, server.get("/cases/01234567"))));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(e instanceof HttpTimeoutException || e instanceof DeadlineExceededException, e.toString());
+        assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void operationTimeoutAppliesWithoutDeadline() {
+        server.reply(200, Map.of(), 3000);
+        ApiRequestExecutor executor = executor("retry.enabled", "false", "timeouts.operations.get-case", "1");
+
+        long start = System.nanoTime();
+        assertThrows(HttpTimeoutException.class, () -> executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567")));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 2500, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void rateLimiterWaitIsBoundedByDeadline() {
+        ApiRequestExecutor executor = executor();
+        server.reply(429, Map.of("Retry-After", "10"), 0);
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> withDeadline(Duration.ofMillis(500),
+            () -> executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"))));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void rateLimiterWaitBeyondItsMaximumIsARateLimitRejection() {
+        ApiRequestExecutor executor = executor("rate-limit.max-wait-seconds", "1");
+        server.reply(429, Map.of("Retry-After", "10"), 0);
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class,
+            () -> withDeadline(Duration.ofSeconds(30),
+                () -> executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"))));
+
+        assertTrue(e.getRetryIn().toSeconds() >= 9, "retry in " + e.getRetryIn());
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void slowReadIsHedgedAndFirstResponseWins() throws Exception {
+        server.reply(200, Map.of(), 3000);
+
+        long start = System.nanoTime();
+        int status = executor(HEDGING).send(ApiOperation.GET_CASE, server.get("/cases/01234567")).statusCode();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(200, status);
+        assertEquals(2, server.hits());
+        assertTrue(elapsedMillis < 2000, "took " + elapsedMillis + " ms");
+        assertEquals(1, registry.get("redhat.api.hedged.requests").tag("operation", "get-case").counter().count());
+    }
+
+    @Test
+    void fastReadIsNotHedged() throws Exception {
+        executor(HEDGING).send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void nonHedgeableOperationIsNotHedged() throws Exception {
+        server.reply(200, Map.of(), 400);
+
+        executor(HEDGING).send(ApiOperation.LIST_CASES, server.post("/cases/filter"));
+
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void hedgeNeedsAFreeRateLimiterPermit() throws Exception {
+        server.reply(200, Map.of(), 400);
+        String[] properties = Arrays.copyOf(HEDGING, HEDGING.length + 4);
+        properties[HEDGING.length] = "rate-limit.burst";
+        properties[HEDGING.length + 1] = "1";
+        properties[HEDGING.length + 2] = "rate-limit.permits-per-second";
+        properties[HEDGING.length + 3] = "0.5";
+
+        executor(properties).send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+
+        assertEquals(1, server.hits());
+    }
+
+    @Test
+    void connectionQuotaRejectsBeforeCallingTheApi() {
+        RedHatApiConfig config = TestApiConfig.of("connection-quota.api-requests-burst", "1",
+            "connection-quota.api-requests-per-minute", "1");
+        ConnectionQuotas quotas = new ConnectionQuotas(config, registry);
+        ApiRequestExecutor executor = new ApiRequestExecutor(config, new RateLimiter(config, registry), registry,
+            OpenTelemetry.noop().getTracer("test"), quotas);
+
+        assertThrows(QuotaExceededException.class, () -> quotas.run("a", () -> {
+            try {
+                executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+                executor.send(ApiOperation.GET_CASE, server.get("/cases/01234567"));
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        }));
+
+        assertEquals(1, server.hits());
+        assertEquals(1, quotas.usage("a").orElseThrow().apiRequests());
+    }
+
+    private static <T> T withDeadline(Duration budget, Callable<T> call) throws Exception {
+        try {
+            return Deadline.run(budget, () -> {
+                try {
+                    return call.call();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        } catch (CompletionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private ApiRequestExecutor executor(String... properties) {
+        String[] all = new String[properties.length + 4];
+        all[0] = "retry.initial-backoff-millis";
+        all[1] = "1";
+        all[2] = "retry.max-backoff-millis";
+        all[3] = "5";
+        System.arraycopy(properties, 0, all, 4, properties.length);
+        RedHatApiConfig config = TestApiConfig.of(all);
+        return new ApiRequestExecutor(config, new RateLimiter(config, registry), registry,
+            OpenTelemetry.noop().getTracer("test"), new ConnectionQuotas(config, registry));
+    }
+}
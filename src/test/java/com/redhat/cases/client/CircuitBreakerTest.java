@@ -0,0 +1,103 @@
+package com.redhat.cases.client;
+
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.config.TestApiConfig;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.CASES, config(true, 3, 60, 1));
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+        assertEquals(ApiEndpoint.CASES, e.getEndpoint());
+        assertTrue(e.getRetryIn().toSeconds() > 0 && e.getRetryIn().toSeconds() <= 60);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.CASES, config(true, 2, 60, 1));
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpenLimitsProbesAndClosesOnSuccess() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.HYDRA, config(true, 1, 0, 1));
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.CASES, config(true, 5, 0, 1));
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure();
+        }
+
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void releasedProbeFreesSlot() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.CASES, config(true, 1, 0, 1));
+        breaker.onFailure();
+
+        breaker.acquirePermission();
+        breaker.releasePermission();
+        breaker.acquirePermission();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void disabledNeverOpens() {
+        CircuitBreaker breaker = new CircuitBreaker(ApiEndpoint.SSO, config(false, 1, 60, 1));
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.acquirePermission();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static RedHatApiConfig.CircuitBreaker config(boolean enabled, int failureThreshold,
+                                                         int openSeconds, int halfOpenProbes) {
+        return TestApiConfig.of(
+            "circuit-breaker.enabled", String.valueOf(enabled),
+            "circuit-breaker.failure-threshold", String.valueOf(failureThreshold),
+            "circuit-breaker.open-seconds", String.valueOf(openSeconds),
+            "circuit-breaker.half-open-probes", String.valueOf(halfOpenProbes)).circuitBreaker();
+    }
+}
@@ -0,0 +1,94 @@
+package com.redhat.cases.client;
+
+import com.redhat.cases.config.TestApiConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionQuotasTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void toolCallsOverBurstAreRejected() {
+        ConnectionQuotas quotas = quotas("tool-calls-burst", "2", "tool-calls-per-minute", "1");
+
+        quotas.run("a", () -> null);
+        quotas.run("a", () -> null);
+        QuotaExceededException e = assertThrows(QuotaExceededException.class, () -> quotas.run("a", () -> null));
+
+        assertEquals(QuotaExceededException.Kind.TOOL_CALLS, e.getKind());
+        assertTrue(e.getRetryIn().toSeconds() > 0);
+        ConnectionQuotas.Usage usage = quotas.usage("a").orElseThrow();
+        assertEquals(2, usage.toolCalls());
+        assertEquals(1, usage.rejected());
+        assertEquals(1, registry.get("mcp.connection.quota.rejections").tag("kind", "tool").counter().count());
+    }
+
+    @Test
+    void connectionsHaveIndependentQuotas() {
+        ConnectionQuotas quotas = quotas("tool-calls-burst", "1", "tool-calls-per-minute", "1");
+
+        quotas.run("a", () -> null);
+        assertThrows(QuotaExceededException.class, () -> quotas.run("a", () -> null));
+
+        assertEquals("ok", quotas.run("b", () -> "ok"));
+    }
+
+    @Test
+    void apiRequestsAreChargedToTheRunningConnection() {
+        ConnectionQuotas quotas = quotas("api-requests-burst", "2", "api-requests-per-minute", "1");
+
+        QuotaExceededException e = assertThrows(QuotaExceededException.class, () -> quotas.run("a", () -> {
+            for (int i = 0; i < 3; i++) {
+                quotas.beforeRequest();
+                quotas.afterRequest(1_000_000, 512);
+            }
+            return null;
+        }));
+
+        assertEquals(QuotaExceededException.Kind.API_REQUESTS, e.getKind());
+        ConnectionQuotas.Usage usage = quotas.usage("a").orElseThrow();
+        assertEquals(2, usage.apiRequests());
+        assertEquals(1024, usage.bytesReceived());
+        assertEquals(2, usage.apiTime().toMillis());
+        assertEquals(1, usage.toolCalls());
+        assertEquals(1, registry.get("mcp.connection.quota.rejections").tag("kind", "api").counter().count());
+    }
+
+    @Test
+    void requestsOutsideAToolCallAreNotCharged() {
+        ConnectionQuotas quotas = quotas("api-requests-burst", "1", "api-requests-per-minute", "1");
+
+        for (int i = 0; i < 5; i++) {
+            quotas.beforeRequest();
+            quotas.afterRequest(1, 1);
+        }
+
+        assertTrue(quotas.usage("a").isEmpty());
+    }
+
+    @Test
+    void disabledQuotasOnlyAccount() {
+        ConnectionQuotas quotas = quotas("enabled", "false", "tool-calls-burst", "1", "tool-calls-per-minute", "1");
+
+        for (int i = 0; i < 5; i++) {
+            quotas.run("a", () -> null);
+        }
+
+        assertEquals(5, quotas.usage("a").orElseThrow().toolCalls());
+    }
+
+    private ConnectionQuotas quotas(String... properties) {
+        String[] prefixed = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            prefixed[i] = i % 2 == 0 ? "connection-quota." + properties[i] : properties[i];
+        }
+        return new ConnectionQuotas(TestApiConfig.of(prefixed), registry);
+    }
+}
@@ -0,0 +1,152 @@
+package com.redhat.cases.client;
+
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentEncodingTest {
+
+    private static final byte[] JSON = "{\"caseNumber\":\"01234567\",\"status\":\"Waiting on Red Hat\"}"
+        .repeat(20).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(JSON);
+        }
+        HttpResponse<byte[]> response = response("gzip", out.toByteArray());
+
+        assertTrue(ContentEncoding.isEncoded(response));
+        assertArrayEquals(JSON, ContentEncoding.decode(response));
+        try (InputStream in = ContentEncoding.open(response)) {
+            assertArrayEquals(JSON, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void zlibDeflate() throws IOException {
+        assertArrayEquals(JSON, ContentEncoding.decode(response("deflate", deflate(false))));
+    }
+
+    @Test
+    void rawDeflate() throws IOException {
+        assertArrayEquals(JSON, ContentEncoding.decode(response("deflate", deflate(true))));
+    }
+
+    @Test
+    void encodingHeaderIsCaseInsensitive() throws IOException {
+        assertArrayEquals(JSON, ContentEncoding.decode(response(" Deflate ", deflate(false))));
+    }
+
+    @Test
+    void identityAndMissingHeaderPassThrough() throws IOException {
+        HttpResponse<byte[]> identity = response("identity", JSON);
+        HttpResponse<byte[]> plain = response(null, JSON);
+
+        assertFalse(ContentEncoding.isEncoded(identity));
+        assertFalse(ContentEncoding.isEncoded(plain));
+        assertArrayEquals(JSON, ContentEncoding.decode(identity));
+        try (InputStream in = ContentEncoding.open(plain)) {
+            assertArrayEquals(JSON, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void emptyBodyIsNotDecoded() throws IOException {
+        HttpResponse<byte[]> empty = response("gzip", new byte[0]);
+        HttpResponse<byte[]> noBody = response("gzip", null);
+
+        assertFalse(ContentEncoding.isEncoded(empty));
+        assertEquals(0, ContentEncoding.decode(empty).length);
+        assertEquals(0, ContentEncoding.decode(noBody).length);
+        try (InputStream in = ContentEncoding.open(noBody)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void unsupportedEncodingFails() {
+        assertThrows(IOException.class, () -> ContentEncoding.decode(response("br", JSON)));
+    }
+
+    private static byte[] deflate(boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(JSON);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static HttpResponse<byte[]> response(String contentEncoding, byte[] body) {
+        HttpHeaders headers = HttpHeaders.of(
+            contentEncoding != null ? Map.of("Content-Encoding", List.of(contentEncoding)) : Map.of(),
+            (name, value) -> true);
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return 200;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return HttpRequest.newBuilder(uri()).build();
+            }
+
+            @Override
+            public Optional<HttpResponse<byte[]>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public byte[] body() {
+                return body;
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return URI.create("https://api.access.redhat.com/support/v1/cases/01234567");
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.redhat.cases.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    @Test
+    void noDeadlineOutsideRun() {
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    @Test
+    void deadlineIsVisibleInsideRunAndClearedAfter() {
+        boolean present = Deadline.run(Duration.ofSeconds(5), () -> {
+            Deadline deadline = Deadline.current().orElseThrow();
+            assertFalse(deadline.isExpired());
+            assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(5)) <= 0);
+            return true;
+        });
+
+        assertTrue(present);
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    @Test
+    void nestedRunKeepsShorterOuterDeadline() {
+        Deadline.run(Duration.ofSeconds(1), () -> {
+            long outer = Deadline.current().orElseThrow().expiresAtNanos();
+            long inner = Deadline.run(Duration.ofSeconds(60), () -> Deadline.current().orElseThrow().expiresAtNanos());
+
+            assertEquals(outer, inner);
+            return null;
+        });
+    }
+
+    @Test
+    void nestedRunCanShortenAndRestoresOuter() {
+        Deadline.run(Duration.ofSeconds(60), () -> {
+            Deadline outer = Deadline.current().orElseThrow();
+            Duration inner = Deadline.run(Duration.ofMillis(100), () -> Deadline.current().orElseThrow().remaining());
+
+            assertTrue(inner.compareTo(Duration.ofMillis(100)) <= 0);
+            assertEquals(outer, Deadline.current().orElseThrow());
+            return null;
+        });
+    }
+
+    @Test
+    void restoredAfterException() {
+        assertThrows(IllegalStateException.class, () -> Deadline.run(Duration.ofSeconds(1), () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(Deadline.current().isEmpty());
+    }
+
+    @Test
+    void zeroBudgetIsExpired() {
+        assertTrue(Deadline.run(Duration.ZERO, () -> Deadline.current().orElseThrow().isExpired()));
+    }
+}
@@ -0,0 +1,39 @@
+package com.redhat.cases.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyTrackerTest {
+
+    @Test
+    void percentileOfRecordedSamples() {
+        LatencyTracker tracker = new LatencyTracker(100);
+        for (int i = 100; i >= 1; i--) {
+            tracker.record(i);
+        }
+
+        assertEquals(100, tracker.count());
+        assertEquals(50, tracker.percentile(50));
+        assertEquals(95, tracker.percentile(95));
+        assertEquals(100, tracker.percentile(100));
+        assertEquals(1, tracker.percentile(0));
+    }
+
+    @Test
+    void noSamples() {
+        assertEquals(-1, new LatencyTracker(8).percentile(95));
+    }
+
+    @Test
+    void keepsOnlyTheLatestSamples() {
+        LatencyTracker tracker = new LatencyTracker(4);
+        for (int i = 1; i <= 10; i++) {
+            tracker.record(i * 1000L);
+        }
+
+        assertEquals(4, tracker.count());
+        assertEquals(7000, tracker.percentile(0));
+        assertEquals(10_000, tracker.percentile(100));
+    }
+}
@@ -0,0 +1,128 @@
+package com.redhat.cases.client;
+
+import com.redhat.cases.config.TestApiConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    @Test
+    void throttlingHalvesRateDownToMinimum() {
+        RateLimiter limiter = limiter("permits-per-second", "8", "min-permits-per-second", "1");
+
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(4, limiter.currentRate());
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(1, limiter.currentRate());
+        limiter.onThrottled(Duration.ZERO);
+        assertEquals(1, limiter.currentRate());
+    }
+
+    @Test
+    void successRecoversRateAdditivelyUpToMaximum() {
+        RateLimiter limiter = limiter("permits-per-second", "8", "min-permits-per-second", "1",
+            "recovery-step", "1.5");
+        limiter.onThrottled(Duration.ZERO);
+        limiter.onThrottled(Duration.ZERO);
+
+        limiter.onSuccess();
+        assertEquals(3.5, limiter.currentRate());
+        limiter.onSuccess();
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertEquals(8, limiter.currentRate());
+    }
+
+    @Test
+    void burstIsAvailableImmediately() throws InterruptedException {
+        RateLimiter limiter = limiter("permits-per-second", "0.5", "burst", "3");
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        assertTrue(limiter.availablePermits() < 1);
+    }
+
+    @Test
+    void throttlingDropsStoredPermits() {
+        RateLimiter limiter = limiter("permits-per-second", "1", "burst", "5");
+
+        limiter.onThrottled(Duration.ZERO);
+
+        assertTrue(limiter.availablePermits() < 1);
+    }
+
+    @Test
+    void retryAfterBlocksUntilItExpires() throws InterruptedException {
+        RateLimiter limiter = limiter("permits-per-second", "100", "max-wait-seconds", "5");
+        limiter.onThrottled(Duration.ofMillis(300));
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= 200, "waited " + waitedMillis + " ms");
+    }
+
+    @Test
+    void rejectsWaitLongerThanMaximum() {
+        RateLimiter limiter = limiter("max-wait-seconds", "1");
+
+        limiter.onThrottled(Duration.ofSeconds(10));
+
+        RateLimitExceededException e = assertThrows(RateLimitExceededException.class, limiter::acquire);
+        assertTrue(e.getRetryIn().toSeconds() >= 9, "retry in " + e.getRetryIn());
+        assertEquals(0, limiter.queueDepth());
+    }
+
+    @Test
+    void waitIsBoundedByCallerMaximum() throws InterruptedException {
+        RateLimiter limiter = limiter("max-wait-seconds", "30");
+        limiter.onThrottled(Duration.ofMillis(500));
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.acquire(Duration.ofMillis(50)));
+        limiter.acquire(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void disabledNeverWaits() throws InterruptedException {
+        RateLimiter limiter = limiter("enabled", "false", "permits-per-second", "0.1", "burst", "1");
+
+        limiter.onThrottled(Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        assertEquals(0.1, limiter.currentRate());
+    }
+
+    @Test
+    void interruptedWaitPropagatesAndReleasesItsQueueSlot() {
+        RateLimiter limiter = limiter("max-wait-seconds", "30");
+        limiter.onThrottled(Duration.ofSeconds(5));
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, limiter::acquire);
+        assertEquals(0, limiter.queueDepth());
+    }
+
+    private static RateLimiter limiter(String... properties) {
+        String[] prefixed = new String[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            prefixed[i] = i % 2 == 0 ? "rate-limit." + properties[i] : properties[i];
+        }
+        return new RateLimiter(TestApiConfig.of(prefixed), new SimpleMeterRegistry());
+    }
+}
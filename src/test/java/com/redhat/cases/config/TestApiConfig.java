@@ -0,0 +1,32 @@
+package com.redhat.cases.config;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds {@link RedHatApiConfig} outside Quarkus: mapping defaults plus the given overrides.
+ */
+public final class TestApiConfig {
+
+    private TestApiConfig() {
+    }
+
+    /**
+     * @param properties alternating property names (relative to redhat.api, e.g. "retry.max-attempts") and values
+     */
+    public static RedHatApiConfig of(String... properties) {
+        Map<String, String> values = new HashMap<>();
+        values.put("redhat.api.products", "OpenShift");
+        for (int i = 0; i < properties.length; i += 2) {
+            values.put("redhat.api." + properties[i], properties[i + 1]);
+        }
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+            .withMapping(RedHatApiConfig.class)
+            .withDefaultValues(values)
+            .build();
+        return config.getConfigMapping(RedHatApiConfig.class);
+    }
+}
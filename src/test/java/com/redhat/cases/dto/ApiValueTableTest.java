@@ -0,0 +1,49 @@
+package com.redhat.cases.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApiValueTableTest {
+
+    private final ApiValueTable<Integer> table = ApiValueTable.of(Map.of(
+        "waiting on red hat", 1,
+        "in progress", 2,
+        "closed", 3));
+
+    @Test
+    void ignoresCaseAndSeparators() {
+        assertEquals(1, table.get("Waiting on Red Hat", null));
+        assertEquals(1, table.get("WAITING_ON_RED_HAT", null));
+        assertEquals(2, table.get("In-Progress", null));
+        assertEquals(3, table.get(new StringBuilder("CLOSED"), null));
+    }
+
+    @Test
+    void unknownOrNullReturnsDefault() {
+        assertEquals(-1, table.get("closedd", -1));
+        assertEquals(-1, table.get("close", -1));
+        assertEquals(-1, table.get("", -1));
+        assertEquals(-1, table.get((CharSequence) null, -1));
+        assertNull(table.get("reopened", null));
+    }
+
+    @Test
+    void looksUpSliceOfCharBuffer() {
+        char[] buffer = "{\"status\":\"In Progress\"}".toCharArray();
+        int offset = "{\"status\":\"".length();
+
+        assertEquals(2, table.get(buffer, offset, "In Progress".length(), null));
+        assertEquals(0, table.get(buffer, offset, "In Prog".length(), 0));
+    }
+
+    @Test
+    void rejectsEquivalentKeys() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ApiValueTable.of(Map.of("in progress", 1, "In_Progress", 2)));
+    }
+}
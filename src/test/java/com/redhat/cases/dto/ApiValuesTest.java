@@ -0,0 +1,78 @@
+package com.redhat.cases.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.redhat.cases.model.CasePriority;
+import com.redhat.cases.model.CaseStatus;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ApiValuesTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void apiStatusMapsBackToSameStatus() {
+        for (CaseStatus status : CaseStatus.values()) {
+            assertEquals(status, ApiValues.STATUSES.get(ApiValues.apiStatus(status), null), status.name());
+        }
+    }
+
+    @Test
+    void apiSeverityMapsBackToSamePriority() {
+        for (CasePriority priority : CasePriority.values()) {
+            assertEquals(priority, ApiValues.SEVERITIES.get(ApiValues.apiSeverity(priority), null), priority.name());
+        }
+    }
+
+    @Test
+    void statusInputsAcceptModelNamesAndAliases() {
+        assertEquals(ApiValues.STATUS_WAITING_ON_RED_HAT, ApiValues.STATUS_INPUTS.get("IN_PROGRESS", null));
+        assertEquals(ApiValues.STATUS_WAITING_ON_RED_HAT, ApiValues.STATUS_INPUTS.get("Reopen", null));
+        assertEquals(ApiValues.STATUS_WAITING_ON_CUSTOMER, ApiValues.STATUS_INPUTS.get("waiting-customer", null));
+        assertEquals(ApiValues.STATUS_CLOSED, ApiValues.STATUS_INPUTS.get("Close", null));
+        assertNull(ApiValues.STATUS_INPUTS.get("resolved", null));
+    }
+
+    @Test
+    void jsonRoundTrip() throws Exception {
+        for (CaseStatus status : CaseStatus.values()) {
+            for (CasePriority priority : CasePriority.values()) {
+                CaseDetailDto dto = new CaseDetailDto();
+                dto.setStatus(status);
+                dto.setSeverity(priority);
+
+                CaseDetailDto read = mapper.readValue(mapper.writeValueAsString(dto), CaseDetailDto.class);
+
+                assertEquals(status, read.getStatus());
+                assertEquals(priority, read.getSeverity());
+            }
+        }
+    }
+
+    @Test
+    void deserializesApiSpellingsAndDefaults() throws Exception {
+        CaseDetailDto detail = mapper.readValue(
+            "{\"status\":\"Waiting on Engineering\",\"severity\":2}", CaseDetailDto.class);
+        assertEquals(CaseStatus.WAITING_VENDOR, detail.getStatus());
+        assertEquals(CasePriority.HIGH, detail.getSeverity());
+
+        CaseDetailDto unknown = mapper.readValue(
+            "{\"status\":\"Escalated\",\"severity\":\"5 (Unknown)\"}", CaseDetailDto.class);
+        assertEquals(CaseStatus.IN_PROGRESS, unknown.getStatus());
+        assertEquals(CasePriority.NORMAL, unknown.getSeverity());
+    }
+
+    @Test
+    void nonScalarValuesAreSkippedAsUnknown() throws Exception {
+        CaseDetailDto detail = mapper.readValue(
+            "{\"status\":{\"name\":\"Closed\",\"tags\":[\"a\"]},\"severity\":[1,2],\"summary\":\"Pods crash\"}",
+            CaseDetailDto.class);
+        assertEquals(CaseStatus.IN_PROGRESS, detail.getStatus());
+        assertEquals(CasePriority.NORMAL, detail.getSeverity());
+        assertEquals("Pods crash", detail.getSummary());
+    }
+}
@@ -0,0 +1,182 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.config.TestApiConfig;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.SupportCaseService;
+
+import io.quarkiverse.mcp.server.McpConnection;
+import io.opentelemetry.api.OpenTelemetry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseWatcherTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-05T12:00:00Z");
+
+    private final RecordingResourceManager resources = new RecordingResourceManager();
+    private final StubCaseService cases = new StubCaseService();
+    private final McpConnection connection = RecordingResourceManager.connection("c1");
+    private CaseWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = new CaseWatcher();
+        watcher.caseService = cases;
+        watcher.resources = new SupportCaseResources();
+        watcher.resources.resourceManager = resources.manager;
+        // Polls are driven by the test, never by the scheduler
+        watcher.config = TestApiConfig.of("watcher.min-interval-seconds", "3600", "watcher.page-size", "2");
+        for (int i = 1; i <= 5; i++) {
+            cases.modify("0000000" + i, T0.minus(i, ChronoUnit.MINUTES));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        watcher.shutdown();
+    }
+
+    @Test
+    void watchRegistersCaseResources() {
+        assertTrue(watcher.watch(cases.get("00000001"), connection));
+        assertFalse(watcher.watch(cases.get("00000001"), connection));
+
+        assertEquals(Set.of("case://00000001", "case://00000001/comments"), resources.uris());
+    }
+
+    @Test
+    void firstPollOnlyEstablishesHighWaterMark() {
+        watcher.watch(cases.get("00000001"), connection);
+
+        watcher.poll();
+
+        assertEquals(List.of(), resources.updates);
+        assertEquals(List.of(), cases.invalidated);
+    }
+
+    @Test
+    void changeToWatchedCaseIsNotifiedOnce() {
+        watcher.watch(cases.get("00000002"), connection);
+        watcher.poll();
+
+        cases.modify("00000002", T0.plus(1, ChronoUnit.MINUTES));
+        watcher.poll();
+        watcher.poll();
+
+        assertEquals(List.of("case://00000002", "case://00000002/comments"), resources.updates);
+        assertEquals(List.of("00000002"), cases.invalidated);
+    }
+
+    @Test
+    void changesToOtherCasesAreIgnored() {
+        watcher.watch(cases.get("00000002"), connection);
+        watcher.poll();
+
+        cases.modify("00000003", T0.plus(1, ChronoUnit.MINUTES));
+        watcher.poll();
+
+        assertEquals(List.of(), resources.updates);
+    }
+
+    @Test
+    void changeInTheSameSecondAsHighWaterMarkIsNotified() {
+        watcher.watch(cases.get("00000002"), connection);
+        watcher.poll();
+
+        // Listed after case 1, which set the high-water mark with the same timestamp
+        cases.modify("00000002", T0.minus(1, ChronoUnit.MINUTES));
+        watcher.poll();
+        watcher.poll();
+
+        assertEquals(List.of("case://00000002", "case://00000002/comments"), resources.updates);
+    }
+
+    @Test
+    void caseWithoutModificationDateCanBeWatched() {
+        cases.modify("00000006", null);
+        watcher.watch(cases.get("00000006"), connection);
+        watcher.poll();
+
+        cases.modify("00000006", T0.plus(1, ChronoUnit.MINUTES));
+        watcher.poll();
+
+        assertEquals(List.of("case://00000006", "case://00000006/comments"), resources.updates);
+    }
+
+    @Test
+    void walksPagesUntilPreviousHighWaterMark() {
+        watcher.watch(cases.get("00000005"), connection);
+        watcher.poll();
+
+        cases.modify("00000005", T0.plus(1, ChronoUnit.MINUTES));
+        cases.modify("00000004", T0.plus(2, ChronoUnit.MINUTES));
+        cases.modify("00000003", T0.plus(3, ChronoUnit.MINUTES));
+        watcher.poll();
+
+        assertEquals(List.of("case://00000005", "case://00000005/comments"), resources.updates);
+    }
+
+    @Test
+    void unwatchedCaseIsNoLongerNotified() {
+        watcher.watch(cases.get("00000001"), connection);
+        watcher.poll();
+
+        assertTrue(watcher.unwatch("00000001", connection));
+        assertFalse(watcher.unwatch("00000001", connection));
+        cases.modify("00000001", T0.plus(1, ChronoUnit.MINUTES));
+        watcher.poll();
+
+        assertEquals(List.of(), resources.updates);
+    }
+
+    /**
+     * Account listing sorted by modification time, newest first, as the Cases API returns it.
+     */
+    private static final class StubCaseService extends SupportCaseService {
+
+        private final Map<String, SupportCase> all = new LinkedHashMap<>();
+        final List<String> invalidated = new ArrayList<>();
+
+        StubCaseService() {
+            super(null, null, null, null, OpenTelemetry.noop().getTracer("test"));
+        }
+
+        void modify(String caseNumber, Instant modified) {
+            all.put(caseNumber, new SupportCase(caseNumber, "Case " + caseNumber, "", null, null,
+                null, null, null, null, null, modified, modified, List.of()));
+        }
+
+        SupportCase get(String caseNumber) {
+            return all.get(caseNumber);
+        }
+
+        @Override
+        public List<SupportCase> listRecentlyModified(int maxResults, int offset) {
+            List<SupportCase> sorted = all.values().stream()
+                .filter(c -> c.updatedAt() != null)
+                .sorted(Comparator.comparing(SupportCase::updatedAt).reversed())
+                .toList();
+            return sorted.subList(Math.min(offset, sorted.size()), Math.min(offset + maxResults, sorted.size()));
+        }
+
+        @Override
+        public void invalidateCase(String caseNumber) {
+            invalidated.add(caseNumber);
+        }
+    }
+}
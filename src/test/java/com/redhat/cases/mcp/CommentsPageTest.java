@@ -0,0 +1,79 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.model.CaseComment;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommentsPageTest {
+
+    private static final Pattern CURSOR = Pattern.compile("cursor='([^']+)'");
+    private static final Pattern CONTENT = Pattern.compile("(?m)^  (Comment \\d+)$");
+    private static final Instant T0 = Instant.parse("2025-01-31T10:00:00Z");
+
+    @Test
+    void commentsSharingATimestampAcrossPagesAreAllReturned() {
+        List<CaseComment> comments = List.of(
+            comment(1, T0),
+            comment(2, T0.plusSeconds(5)),
+            comment(3, T0.plusSeconds(5)),
+            comment(4, T0.plusSeconds(9)));
+
+        List<String> seen = new ArrayList<>();
+        int offset = 0;
+        for (int call = 0; call < comments.size(); call++) {
+            String text = SupportCaseTools.commentsPage("01234567", "2025-01-31", comments, offset, 2, "", 20_000);
+            seen.addAll(contents(text));
+            Matcher cursor = CURSOR.matcher(text);
+            if (!cursor.find()) {
+                break;
+            }
+            assertTrue(text.contains("since='2025-01-31'"), text);
+            offset = ResponsePages.offset("comments/01234567?since=2025-01-31", cursor.group(1));
+        }
+
+        assertEquals(List.of("Comment 1", "Comment 2", "Comment 3", "Comment 4"), seen);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        List<CaseComment> comments = List.of(comment(1, T0), comment(2, T0));
+
+        String text = SupportCaseTools.commentsPage("01234567", "", comments, 1, 20, "", 20_000);
+
+        assertEquals(List.of("Comment 2"), contents(text));
+        assertTrue(text.contains("Showing comments 2-2 of 2."), text);
+        assertFalse(text.contains("cursor="), text);
+    }
+
+    @Test
+    void allCommentsInOnePageHaveNoFooter() {
+        List<CaseComment> comments = List.of(comment(1, T0), comment(2, T0));
+
+        String text = SupportCaseTools.commentsPage("01234567", "", comments, 0, 20, "", 20_000);
+
+        assertFalse(text.contains("Showing"), text);
+    }
+
+    private static List<String> contents(String text) {
+        List<String> contents = new ArrayList<>();
+        Matcher m = CONTENT.matcher(text);
+        while (m.find()) {
+            contents.add(m.group(1));
+        }
+        return contents;
+    }
+
+    private static CaseComment comment(int n, Instant createdAt) {
+        return new CaseComment(String.valueOf(n), "someone", "Comment " + n, createdAt, false);
+    }
+}
@@ -0,0 +1,90 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.mcp.CompactCaseTable.Field;
+import com.redhat.cases.model.CaseStatus;
+import com.redhat.cases.model.SupportCase;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactCaseTableTest {
+
+    private static final List<Field> FIELDS = List.of(Field.ID, Field.STATUS, Field.PRODUCT, Field.UPDATED, Field.TITLE);
+
+    private static final List<SupportCase> CASES = List.of(
+        supportCase("01", CaseStatus.IN_PROGRESS, "OpenShift", "Pods | crash\nloop"),
+        supportCase("02", CaseStatus.IN_PROGRESS, "OpenShift", "Slow etcd"),
+        supportCase("03", CaseStatus.CLOSED, "RHEL", "Kernel panic"));
+
+    @Test
+    void blankFieldsSelectDefaults() {
+        assertEquals(CompactCaseTable.DEFAULT_FIELDS, CompactCaseTable.parseFields(" "));
+        assertEquals(CompactCaseTable.DEFAULT_FIELDS, CompactCaseTable.parseFields(null));
+    }
+
+    @Test
+    void parsesFieldsInOrderWithoutDuplicates() {
+        assertEquals(List.of(Field.TITLE, Field.ID), CompactCaseTable.parseFields("title, ID,,title"));
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CompactCaseTable.parseFields("id,owner"));
+    }
+
+    @Test
+    void encodesRepeatedValuesWithLegend() {
+        StringBuilder sb = new StringBuilder();
+
+        int next = CompactCaseTable.render(sb, CASES, 0, FIELDS, 10_000);
+
+        assertEquals(3, next);
+        assertEquals("""
+            #id|status|product|updated|title
+            01|S1|P1|2026-01-05|Pods / crash loop
+            02|S1|P1|2026-01-05|Slow etcd
+            03|S2|P2|2026-01-05|Kernel panic
+            # S1=In Progress S2=Closed
+            # P1=OpenShift P2=RHEL
+            """, sb.toString());
+    }
+
+    @Test
+    void firstRowIsRenderedEvenOverBudget() {
+        StringBuilder sb = new StringBuilder();
+
+        assertEquals(1, CompactCaseTable.render(sb, CASES, 0, FIELDS, 1));
+    }
+
+    @Test
+    void rowThatDoesNotFitIsDroppedWithItsCodes() {
+        StringBuilder firstTwo = new StringBuilder();
+        CompactCaseTable.render(firstTwo, CASES.subList(0, 2), 0, FIELDS, 10_000);
+
+        StringBuilder sb = new StringBuilder();
+        int next = CompactCaseTable.render(sb, CASES, 0, FIELDS, firstTwo.length());
+
+        assertEquals(2, next);
+        assertEquals(firstTwo.toString(), sb.toString());
+
+        // The next page starts its own dictionary
+        StringBuilder page = new StringBuilder();
+        assertEquals(3, CompactCaseTable.render(page, CASES, next, FIELDS, 10_000));
+        assertEquals("""
+            #id|status|product|updated|title
+            03|S1|P1|2026-01-05|Kernel panic
+            # S1=Closed
+            # P1=RHEL
+            """, page.toString());
+    }
+
+    private static SupportCase supportCase(String id, CaseStatus status, String product, String title) {
+        Instant updated = Instant.parse("2026-01-05T12:00:00Z");
+        return new SupportCase(id, title, "", status, null, product, null, null, null, null, updated, updated, List.of());
+    }
+}
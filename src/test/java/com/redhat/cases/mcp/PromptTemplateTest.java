@@ -0,0 +1,51 @@
+package com.redhat.cases.mcp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PromptTemplateTest {
+
+    @Test
+    void fillsPlaceholders() {
+        PromptTemplate template = PromptTemplate.compile("Case {{caseNumber}} on {{ cluster }}: {{caseNumber}}.");
+
+        assertEquals("Case 01234567 on prod: 01234567.",
+            template.render(Map.of("caseNumber", "01234567", "cluster", "prod")));
+    }
+
+    @Test
+    void missingOrNullValuesRenderEmpty() {
+        PromptTemplate template = PromptTemplate.compile("[{{product}}|{{products}}]");
+        Map<String, String> values = new HashMap<>();
+        values.put("product", null);
+
+        assertEquals("[|]", template.render(values));
+        assertEquals("[|]", template.render(Map.of()));
+    }
+
+    @Test
+    void textWithoutPlaceholders() {
+        assertEquals("", PromptTemplate.compile("").render(Map.of()));
+        assertEquals("plain } { text", PromptTemplate.compile("plain } { text").render(Map.of("x", "y")));
+    }
+
+    @Test
+    void placeholdersAtEdges() {
+        assertEquals("ab", PromptTemplate.compile("{{a}}{{b}}").render(Map.of("a", "a", "b", "b")));
+    }
+
+    @Test
+    void valuesAreNotReinterpreted() {
+        assertEquals("{{b}}", PromptTemplate.compile("{{a}}").render(Map.of("a", "{{b}}", "b", "x")));
+    }
+
+    @Test
+    void rejectsUnterminatedPlaceholder() {
+        assertThrows(IllegalArgumentException.class, () -> PromptTemplate.compile("Case {{caseNumber"));
+    }
+}
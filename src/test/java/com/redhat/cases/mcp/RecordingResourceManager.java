@@ -0,0 +1,93 @@
+package com.redhat.cases.mcp;
+
+import io.quarkiverse.mcp.server.Implementation;
+import io.quarkiverse.mcp.server.InitialRequest;
+import io.quarkiverse.mcp.server.McpConnection;
+import io.quarkiverse.mcp.server.ResourceManager;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory {@link ResourceManager} that records registered resources and the
+ * resources/updated notifications sent for them.
+ */
+final class RecordingResourceManager {
+
+    private final Map<String, ResourceManager.ResourceInfo> resources = new LinkedHashMap<>();
+    final List<String> updates = new ArrayList<>();
+
+    final ResourceManager manager = proxy(ResourceManager.class, (method, args) -> switch (method) {
+        case "getResource" -> resources.get((String) args[0]);
+        case "removeResource" -> resources.remove((String) args[0]);
+        case "newResource" -> definition();
+        default -> throw new UnsupportedOperationException(method);
+    });
+
+    synchronized Set<String> uris() {
+        return Set.copyOf(resources.keySet());
+    }
+
+    private ResourceManager.ResourceDefinition definition() {
+        String[] uri = new String[1];
+        ResourceManager.ResourceDefinition[] self = new ResourceManager.ResourceDefinition[1];
+        self[0] = proxy(ResourceManager.ResourceDefinition.class, (method, args) -> {
+            if (method.equals("setUri")) {
+                uri[0] = (String) args[0];
+            }
+            if (method.equals("register")) {
+                ResourceManager.ResourceInfo info = info(uri[0]);
+                resources.put(uri[0], info);
+                return info;
+            }
+            return self[0];
+        });
+        return self[0];
+    }
+
+    private ResourceManager.ResourceInfo info(String uri) {
+        return proxy(ResourceManager.ResourceInfo.class, (method, args) -> switch (method) {
+            case "uri" -> uri;
+            case "sendUpdateAndForget" -> {
+                updates.add(uri);
+                yield null;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    static McpConnection connection(String id) {
+        return connection(id, "2025-03-26");
+    }
+
+    static McpConnection connection(String id, String protocolVersion) {
+        InitialRequest initial = new InitialRequest(new Implementation("test-client", "1.0", null),
+            protocolVersion, List.of(), InitialRequest.Transport.STDIO);
+        return proxy(McpConnection.class, (method, args) -> switch (method) {
+            case "id" -> id;
+            case "status" -> McpConnection.Status.IN_OPERATION;
+            case "initialRequest" -> initial;
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName();
+                default -> handler.invoke(method.getName(), args);
+            };
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.redhat.cases.mcp;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponsePagesTest {
+
+    @Test
+    void cursorRoundTrip() {
+        for (int offset : new int[] {0, 1, 50, Integer.MAX_VALUE}) {
+            assertEquals(offset, ResponsePages.offset("search", ResponsePages.cursor("search", offset)));
+        }
+        assertEquals(20, ResponsePages.offset("comments:01234567",
+            ResponsePages.cursor("comments:01234567", 20)));
+    }
+
+    @Test
+    void blankCursorStartsAtZero() {
+        assertEquals(0, ResponsePages.offset("search", null));
+        assertEquals(0, ResponsePages.offset("search", " "));
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = ResponsePages.cursor("comments:01234567", 123);
+        assertEquals(cursor, cursor.replaceAll("[^A-Za-z0-9_-]", ""));
+    }
+
+    @Test
+    void rejectsCursorFromAnotherScope() {
+        String cursor = ResponsePages.cursor("comments:01234567", 10);
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("comments:07654321", cursor));
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("search", cursor));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("search", "not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("search", encode("search:abc")));
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("search", encode("search:-5")));
+        assertThrows(IllegalArgumentException.class, () -> ResponsePages.offset("search", encode("search")));
+    }
+
+    @Test
+    void appendPageStopsAtLimit() {
+        List<String> items = List.of("aaaa", "bbbb", "cccc", "dddd");
+        StringBuilder sb = new StringBuilder();
+
+        int next = ResponsePages.appendPage(sb, items, 1, 10, item -> item);
+
+        assertEquals(3, next);
+        assertEquals("bbbb\ncccc\n", sb.toString());
+    }
+
+    @Test
+    void appendPageAlwaysTakesOneItem() {
+        StringBuilder sb = new StringBuilder();
+
+        int next = ResponsePages.appendPage(sb, List.of("x".repeat(100), "y"), 0, 10, item -> item);
+
+        assertEquals(1, next);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package com.redhat.cases.mcp;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.redhat.cases.model.SupportCase;
+
+import io.quarkiverse.mcp.server.TextContent;
+import io.quarkiverse.mcp.server.ToolResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StructuredResultsTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-31T10:00:00Z");
+
+    private final StructuredResults structured = new StructuredResults();
+
+    private final StructuredResults.CaseList result = new StructuredResults.CaseList(null, 3, 0, "c2",
+        List.of(supportCase("01234567"), supportCase("01234568")));
+
+    @BeforeEach
+    void setUp() {
+        structured.mapper = JsonMapper.builder().findAndAddModules().build();
+        structured.init();
+    }
+
+    @Test
+    void clientsWithStructuredContentGetASummaryInsteadOfTheJson() {
+        ToolResponse response = structured.success(result,
+            RecordingResourceManager.connection("c1", StructuredResults.STRUCTURED_CONTENT_VERSION));
+
+        String json = ((RawValue) response.structuredContent()).rawValue().toString();
+        String text = text(response);
+        assertTrue(json.contains("\"01234568\""), json);
+        assertFalse(text.contains("01234568"), text);
+        assertEquals("Cases 1-2 of 3 in structured content; next cursor: c2", text);
+    }
+
+    @Test
+    void olderClientsGetTheJsonAsText() {
+        ToolResponse response = structured.success(result, RecordingResourceManager.connection("c1", "2025-03-26"));
+
+        assertEquals(((RawValue) response.structuredContent()).rawValue().toString(), text(response));
+    }
+
+    @Test
+    void staleResultsAreMarkedInTheSummary() {
+        ToolResponse response = structured.success(new StructuredResults.CaseList(T0, 0, 0, null, List.of()),
+            RecordingResourceManager.connection("c1", "2025-11-25"));
+
+        assertEquals("[STALE DATA] Cached at " + T0 + ". No cases of 0 in structured content.", text(response));
+    }
+
+    private static String text(ToolResponse response) {
+        assertEquals(1, response.content().size());
+        return ((TextContent) response.content().get(0)).text();
+    }
+
+    private static SupportCase supportCase(String id) {
+        return new SupportCase(id, "Pods crash", "", null, null, "OpenShift", null, null, null, null, T0, T0, List.of());
+    }
+}
@@ -0,0 +1,130 @@
+package com.redhat.cases.mcp;
+
+import com.redhat.cases.client.ApiEndpoint;
+import com.redhat.cases.client.CircuitOpenException;
+import com.redhat.cases.client.ConnectionQuotas;
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.config.TestApiConfig;
+import com.redhat.cases.model.SupportCase;
+import com.redhat.cases.service.CaseCache;
+import com.redhat.cases.service.SupportCaseService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkiverse.mcp.server.McpConnection;
+import io.quarkiverse.mcp.server.RequestUri;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SupportCaseResourcesTest {
+
+    private final RecordingResourceManager manager = new RecordingResourceManager();
+    private final StubCaseService cases = new StubCaseService();
+    private final McpConnection connection = RecordingResourceManager.connection("c1");
+
+    @Test
+    void readingACaseRegistersItsResourcesWithoutFetchingItAgain() {
+        SupportCaseResources resources = resources();
+
+        String text = read(resources, "01234567");
+
+        assertTrue(text.contains("01234567"), text);
+        assertEquals(1, cases.fetches);
+        assertEquals(Set.of("case://01234567", "case://01234567/comments"), manager.uris());
+    }
+
+    @Test
+    void missingCaseIsNotRegistered() {
+        SupportCaseResources resources = resources();
+
+        assertEquals("Case not found: 99999999", read(resources, "99999999"));
+        assertEquals(Set.of(), manager.uris());
+    }
+
+    @Test
+    void readsAreChargedToTheConnectionQuota() {
+        SupportCaseResources resources = resources("connection-quota.tool-calls-burst", "1",
+            "connection-quota.tool-calls-per-minute", "1");
+
+        read(resources, "01234567");
+        String text = read(resources, "01234567");
+
+        assertTrue(text.startsWith("ERROR: This connection exceeded its quota of tool calls"), text);
+        assertEquals(1, cases.fetches);
+    }
+
+    @Test
+    void openCircuitWithoutCachedCopyIsReportedInEnglish() {
+        SupportCaseResources resources = resources();
+        cases.circuitOpen = true;
+
+        String text = read(resources, "01234567");
+
+        assertTrue(text.startsWith("ERROR: The Red Hat API (api.access.redhat.com) is temporarily unavailable."), text);
+        assertEquals(Set.of(), manager.uris());
+    }
+
+    private String read(SupportCaseResources resources, String caseNumber) {
+        return resources.caseDetails(caseNumber, new RequestUri("case://" + caseNumber), connection).text();
+    }
+
+    private SupportCaseResources resources(String... properties) {
+        RedHatApiConfig config = TestApiConfig.of(properties);
+        RequestBudget budget = new RequestBudget();
+        budget.quotas = new ConnectionQuotas(config, new SimpleMeterRegistry());
+        budget.config = config;
+
+        SupportCaseResources resources = new SupportCaseResources();
+        resources.caseService = cases;
+        resources.resourceManager = manager.manager;
+        resources.config = config;
+        resources.budget = budget;
+        return resources;
+    }
+
+    /**
+     * Knows a single case, 01234567; counts the fetches that reach it.
+     */
+    private static final class StubCaseService extends SupportCaseService {
+
+        int fetches;
+        boolean circuitOpen;
+
+        StubCaseService() {
+            super(null, null, null, null, OpenTelemetry.noop().getTracer("test"));
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return true;
+        }
+
+        @Override
+        public Optional<SupportCase> getCase(String caseNumber) {
+            if (circuitOpen) {
+                throw new CircuitOpenException(ApiEndpoint.CASES, Duration.ofSeconds(30));
+            }
+            fetches++;
+            if (!caseNumber.equals("01234567")) {
+                return Optional.empty();
+            }
+            Instant now = Instant.now();
+            return Optional.of(new SupportCase(caseNumber, "Pods crash", "", null, null, "OpenShift",
+                null, null, null, null, now, now, List.of()));
+        }
+
+        @Override
+        public Optional<CaseCache.Entry<SupportCase>> getStaleCase(String caseNumber) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.redhat.cases.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InternerTest {
+
+    @Test
+    void equalValuesShareOneInstance() {
+        String first = Interner.intern(new String("Red Hat OpenShift Container Platform"));
+        String second = Interner.intern(new String("Red Hat OpenShift Container Platform"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void bufferLookupFindsPooledString() {
+        String pooled = Interner.intern(new String("Networking"));
+        char[] buffer = "{\"component\":\"Networking\"}".toCharArray();
+
+        String found = Interner.intern(buffer, 14, 10);
+
+        assertSame(pooled, found);
+    }
+
+    @Test
+    void bufferLookupPoolsNewValue() {
+        char[] buffer = "xx4.16.12xx".toCharArray();
+
+        String parsed = Interner.intern(buffer, 2, 7);
+
+        assertEquals("4.16.12", parsed);
+        assertSame(parsed, Interner.intern(new String("4.16.12")));
+    }
+
+    @Test
+    void longValuesAreNotPooled() {
+        String value = "x".repeat(65);
+
+        assertNotSame(Interner.intern(new String(value)), Interner.intern(new String(value)));
+        char[] buffer = value.toCharArray();
+        assertNotSame(Interner.intern(buffer, 0, 65), Interner.intern(buffer, 0, 65));
+    }
+
+    @Test
+    void nullIsReturnedAsIs() {
+        assertNull(Interner.intern(null));
+    }
+}
@@ -0,0 +1,136 @@
+package com.redhat.cases.service;
+
+import com.redhat.cases.client.RedHatAuthClient;
+import com.redhat.cases.client.RedHatCasesClient;
+import com.redhat.cases.config.RedHatApiConfig;
+import com.redhat.cases.config.TestApiConfig;
+import com.redhat.cases.dto.CaseCommentDto;
+import com.redhat.cases.model.CaseComment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommentHistoryTest {
+
+    private static final String CASE = "01234567";
+    private static final Instant T1 = Instant.parse("2026-01-05T10:00:00Z");
+    private static final Instant T2 = Instant.parse("2026-01-05T11:00:00Z");
+    private static final Instant T3 = Instant.parse("2026-01-05T12:00:00Z");
+
+    private final RedHatApiConfig config = TestApiConfig.of();
+    private final CaseCache cache = new CaseCache(config, new SimpleMeterRegistry());
+    private final StubCasesClient client = new StubCasesClient();
+    private final SupportCaseService service = new SupportCaseService(config, client, new ConfiguredAuthClient(),
+        cache, OpenTelemetry.noop().getTracer("test"));
+
+    @Test
+    void firstReadFetchesWholeHistoryOldestFirst() {
+        client.pages.add(List.of(comment("c2", T2), comment("c1", T1)));
+
+        assertEquals(List.of("c1", "c2"), ids(service.getComments(CASE)));
+        assertEquals(1, client.requestedSince.size());
+        assertNull(client.requestedSince.get(0));
+    }
+
+    @Test
+    void freshHistoryIsServedFromCache() {
+        client.pages.add(List.of(comment("c1", T1)));
+
+        service.getComments(CASE);
+        service.getComments(CASE);
+
+        assertEquals(1, client.requestedSince.size());
+    }
+
+    @Test
+    void refreshFetchesFromNewestAndSkipsRepeatedComments() {
+        client.pages.add(List.of(comment("c1", T1), comment("c2", T2)));
+        service.getComments(CASE);
+        cache.invalidate(CASE);
+
+        client.pages.add(List.of(comment("c3", T3), comment("c2", T2)));
+
+        assertEquals(List.of("c1", "c2", "c3"), ids(service.getComments(CASE)));
+        assertEquals(T2, client.requestedSince.get(1));
+    }
+
+    @Test
+    void emptyRefreshKeepsHistory() {
+        client.pages.add(List.of(comment("c1", T1)));
+        service.getComments(CASE);
+        cache.invalidate(CASE);
+
+        client.pages.add(List.of());
+
+        assertEquals(List.of("c1"), ids(service.getComments(CASE)));
+        assertEquals(T1, client.requestedSince.get(1));
+    }
+
+    @Test
+    void sinceReturnsOnlyNewerComments() {
+        client.pages.add(List.of(comment("c1", T1), comment("c2", T2), comment("c3", T3)));
+
+        assertEquals(List.of("c2", "c3"), ids(service.getComments(CASE, T1)));
+        assertEquals(List.of(), ids(service.getComments(CASE, T3)));
+    }
+
+    @Test
+    void lastHistoryIsAvailableAsStaleData() {
+        client.pages.add(List.of(comment("c1", T1), comment("c2", T2)));
+        service.getComments(CASE);
+
+        assertEquals(List.of("c2"), ids(service.getStaleComments(CASE, T1).orElseThrow().value()));
+    }
+
+    private static CaseCommentDto comment(String id, Instant createdDate) {
+        CaseCommentDto dto = new CaseCommentDto();
+        dto.setId(id);
+        dto.setCommentBody("Comment " + id);
+        dto.setCreatedBy("someone");
+        dto.setCreatedDate(createdDate);
+        return dto;
+    }
+
+    private static List<String> ids(List<CaseComment> comments) {
+        return comments.stream().map(CaseComment::id).toList();
+    }
+
+    private static final class StubCasesClient extends RedHatCasesClient {
+
+        final Deque<List<CaseCommentDto>> pages = new ArrayDeque<>();
+        final List<Instant> requestedSince = new ArrayList<>();
+
+        StubCasesClient() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public List<CaseCommentDto> getComments(String caseNumber, Instant startDate) {
+            requestedSince.add(startDate);
+            return pages.remove();
+        }
+    }
+
+    private static final class ConfiguredAuthClient extends RedHatAuthClient {
+
+        ConfiguredAuthClient() {
+            super(null, null, null);
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return true;
+        }
+    }
+}